@@ -0,0 +1,33 @@
+package com.github.superzhc.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口，默认启用 GC 分析器，结果中包含吞吐量（ops/s）和每次操作的分配量（gc.alloc.rate.norm）
+ * <p>
+ * 参数与 JMH 命令行一致，示例：
+ * <pre>
+ * # 全部
+ * java -jar superz-benchmark-0.0.1-jar-with-dependencies.jar
+ * # 仅 JsonUtils，指定数据集
+ * java -jar superz-benchmark-0.0.1-jar-with-dependencies.jar JsonUtilsBenchmark -p fixture=small,rows
+ * # 使用录制的真实数据
+ * java -Dsuperz.benchmark.recorded=/path/news.json -Dsuperz.benchmark.recorded.paths=data -jar superz-benchmark-0.0.1-jar-with-dependencies.jar -p fixture=recorded
+ * </pre>
+ *
+ * @author superz
+ * @create 2026/10/18 19:20
+ **/
+public class BenchmarkMain {
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.superzhc.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 基准测试的数据集
+ * <ul>
+ *     <li>small：接口返回的小对象，10 行</li>
+ *     <li>rows：10 万行的对象数组</li>
+ *     <li>deep：嵌套 64 层的对象，最内层为 10 行的对象数组</li>
+ *     <li>recorded：录制的真实数据，通过 -Dsuperz.benchmark.recorded 指定文件，-Dsuperz.benchmark.recorded.paths 指定对象数组所在路径（逗号分隔）</li>
+ * </ul>
+ * 生成的数据使用固定随机种子，多次运行结果可比较
+ *
+ * @author superz
+ * @create 2026/10/18 19:20
+ **/
+public class Fixtures {
+    public static final String SMALL = "small";
+    public static final String ROWS = "rows";
+    public static final String DEEP = "deep";
+    public static final String RECORDED = "recorded";
+
+    private static final int DEEP_LEVEL = 64;
+
+    private final String json;
+    /**
+     * 对象数组所在的路径
+     */
+    private final String[] arrayPaths;
+    /**
+     * 数组中某个元素的某个字段的路径
+     */
+    private final Object[] valuePaths;
+
+    private Fixtures(String json, String[] arrayPaths, Object[] valuePaths) {
+        this.json = json;
+        this.arrayPaths = arrayPaths;
+        this.valuePaths = valuePaths;
+    }
+
+    public static Fixtures of(String name) {
+        switch (name) {
+            case SMALL:
+                return rows(10, new String[]{"data", "items"});
+            case ROWS:
+                return rows(100_000, new String[]{"data", "items"});
+            case DEEP: {
+                String[] paths = new String[DEEP_LEVEL + 1];
+                Arrays.fill(paths, 0, DEEP_LEVEL, "child");
+                paths[DEEP_LEVEL] = "items";
+                return rows(10, paths);
+            }
+            case RECORDED:
+                return recorded();
+            default:
+                throw new IllegalArgumentException("未知的数据集：" + name);
+        }
+    }
+
+    private static Fixtures rows(int count, String[] arrayPaths) {
+        Random random = new Random(20261018L);
+        StringBuilder sb = new StringBuilder(count * 160 + 1024);
+        // 数组之前的各层对象
+        for (int i = 0; i < arrayPaths.length - 1; i++) {
+            sb.append("{\"code\":0,\"level\":").append(i).append(",\"").append(arrayPaths[i]).append("\":");
+        }
+        sb.append("{\"total\":").append(count).append(",\"").append(arrayPaths[arrayPaths.length - 1]).append("\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i)
+                    .append(",\"name\":\"item-").append(Integer.toHexString(random.nextInt())).append('"')
+                    .append(",\"price\":").append(random.nextInt(100_000) / 100.0)
+                    .append(",\"count\":").append(random.nextInt(1000))
+                    .append(",\"enabled\":").append(random.nextBoolean())
+                    .append(",\"time\":\"2026-10-18 ").append(String.format("%02d:%02d:%02d", random.nextInt(24), random.nextInt(60), random.nextInt(60))).append('"')
+                    .append(",\"remark\":").append(random.nextInt(4) == 0 ? "null" : "\"备注" + random.nextInt(100) + "\"")
+                    .append(",\"tags\":[\"t").append(random.nextInt(10)).append("\",\"t").append(random.nextInt(10)).append("\"]")
+                    .append('}');
+        }
+        sb.append("]}");
+        for (int i = 0; i < arrayPaths.length - 1; i++) {
+            sb.append('}');
+        }
+
+        Object[] valuePaths = new Object[arrayPaths.length + 2];
+        System.arraycopy(arrayPaths, 0, valuePaths, 0, arrayPaths.length);
+        valuePaths[arrayPaths.length] = count / 2;
+        valuePaths[arrayPaths.length + 1] = "name";
+        return new Fixtures(sb.toString(), arrayPaths, valuePaths);
+    }
+
+    private static Fixtures recorded() {
+        String file = System.getProperty("superz.benchmark.recorded");
+        if (null == file) {
+            throw new IllegalArgumentException("未指定录制的数据文件：-Dsuperz.benchmark.recorded");
+        }
+
+        try {
+            String json = new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8);
+            String pathsProperty = System.getProperty("superz.benchmark.recorded.paths", "");
+            List<String> paths = new ArrayList<>();
+            for (String path : pathsProperty.split(",")) {
+                if (!path.trim().isEmpty()) {
+                    paths.add(path.trim());
+                }
+            }
+            String[] arrayPaths = paths.toArray(new String[0]);
+            Object[] valuePaths = new Object[arrayPaths.length + 1];
+            System.arraycopy(arrayPaths, 0, valuePaths, 0, arrayPaths.length);
+            valuePaths[arrayPaths.length] = 0;
+            return new Fixtures(json, arrayPaths, valuePaths);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public String json() {
+        return json;
+    }
+
+    public String[] arrayPaths() {
+        return arrayPaths;
+    }
+
+    public Object[] valuePaths() {
+        return valuePaths;
+    }
+}
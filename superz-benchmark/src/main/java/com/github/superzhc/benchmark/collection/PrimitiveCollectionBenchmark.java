@@ -0,0 +1,162 @@
+package com.github.superzhc.benchmark.collection;
+
+import com.github.superzhc.core.collection.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基本类型集合与 JDK 装箱集合的对比，每个方法处理 size 个元素，成对出现（primitive / boxed）
+ *
+ * @author superz
+ * @create 2026/10/18 22:05
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class PrimitiveCollectionBenchmark {
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /**
+     * 约一半重复，模拟去重、计数场景
+     */
+    private long[] longs;
+    private double[] doubles;
+    private String[] strings;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        longs = new long[size];
+        doubles = new double[size];
+        strings = new String[size];
+        for (int i = 0; i < size; i++) {
+            longs[i] = random.nextInt(size / 2 + 1) * 0x9E3779B9L;
+            doubles[i] = random.nextDouble();
+            strings[i] = "key" + random.nextInt(size / 2 + 1);
+        }
+    }
+
+    //region===================================列表===================================================================
+    @Benchmark
+    public long intList() {
+        IntList lst = new IntList();
+        for (int i = 0; i < size; i++) {
+            lst.add(i);
+        }
+        long sum = 0;
+        for (int i = 0, len = lst.size(); i < len; i++) {
+            sum += lst.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intListBoxed() {
+        List<Integer> lst = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            lst.add(i);
+        }
+        long sum = 0;
+        for (int i = 0, len = lst.size(); i < len; i++) {
+            sum += lst.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double doubleList() {
+        DoubleList lst = new DoubleList();
+        for (double d : doubles) {
+            lst.add(d);
+        }
+        return lst.stream().sum();
+    }
+
+    @Benchmark
+    public double doubleListBoxed() {
+        List<Double> lst = new ArrayList<>();
+        for (double d : doubles) {
+            lst.add(d);
+        }
+        return lst.stream().mapToDouble(Double::doubleValue).sum();
+    }
+    //endregion================================列表===================================================================
+
+    //region===================================集合===================================================================
+    @Benchmark
+    public int longHashSet() {
+        LongHashSet set = new LongHashSet();
+        int hits = 0;
+        for (long l : longs) {
+            if (!set.add(l))
+                hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int longHashSetBoxed() {
+        Set<Long> set = new HashSet<>();
+        int hits = 0;
+        for (long l : longs) {
+            if (!set.add(l))
+                hits++;
+        }
+        return hits;
+    }
+    //endregion================================集合===================================================================
+
+    //region===================================Map===================================================================
+    @Benchmark
+    public int longObjectMap() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(longs[i], strings[i]);
+        }
+        int found = 0;
+        for (long l : longs) {
+            if (null != map.get(l))
+                found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int longObjectMapBoxed() {
+        Map<Long, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(longs[i], strings[i]);
+        }
+        int found = 0;
+        for (long l : longs) {
+            if (null != map.get(l))
+                found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int objectIntMap() {
+        ObjectIntMap<String> counts = new ObjectIntMap<>();
+        for (String s : strings) {
+            counts.addTo(s, 1);
+        }
+        return counts.size();
+    }
+
+    @Benchmark
+    public int objectIntMapBoxed() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String s : strings) {
+            counts.merge(s, 1, Integer::sum);
+        }
+        return counts.size();
+    }
+    //endregion================================Map===================================================================
+}
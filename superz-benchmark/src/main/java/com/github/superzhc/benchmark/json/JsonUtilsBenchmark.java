@@ -0,0 +1,112 @@
+package com.github.superzhc.benchmark.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.superzhc.benchmark.Fixtures;
+import com.github.superzhc.json.JsonUtils;
+import com.github.superzhc.json.LazyJson;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtils 提取、转换接口的基准
+ *
+ * @author superz
+ * @create 2026/10/18 19:20
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class JsonUtilsBenchmark {
+    /**
+     * 数据集，见 {@link Fixtures}
+     */
+    @Param({Fixtures.SMALL, Fixtures.ROWS, Fixtures.DEEP})
+    public String fixture;
+
+    private String json;
+    private byte[] bytes;
+    private JsonNode node;
+    private Map<String, Object> map;
+    private String[] arrayPaths;
+    private Object[] valuePaths;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Fixtures fixtures = Fixtures.of(fixture);
+        json = fixtures.json();
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+        node = JsonUtils.loads(json);
+        map = JsonUtils.map(node);
+        arrayPaths = fixtures.arrayPaths();
+        valuePaths = fixtures.valuePaths();
+    }
+
+    @Benchmark
+    public JsonNode loads() {
+        return JsonUtils.loads(json);
+    }
+
+    @Benchmark
+    public JsonNode object() {
+        return JsonUtils.object(node, valuePaths);
+    }
+
+    /**
+     * 从原始数据读取单个字段：完整解析
+     */
+    @Benchmark
+    public String loadsAndString() throws IOException {
+        return JsonUtils.string(JsonUtils.mapper().readTree(bytes), valuePaths);
+    }
+
+    /**
+     * 从原始数据读取单个字段：延迟解析
+     */
+    @Benchmark
+    public String lazyString() {
+        return LazyJson.of(bytes).string(valuePaths);
+    }
+
+    @Benchmark
+    public Object objectValue() {
+        return JsonUtils.objectValue(node, valuePaths);
+    }
+
+    @Benchmark
+    public Map<String, Object>[] newObjectArray() {
+        return JsonUtils.newObjectArray(node, (Object[]) arrayPaths);
+    }
+
+    @Benchmark
+    public Map<String, Object>[] newObjectArrayParallel() {
+        return JsonUtils.newObjectArrayParallel(node, (Object[]) arrayPaths);
+    }
+
+    @Benchmark
+    public List<String[]> objectArray() {
+        return JsonUtils.objectArray(node, arrayPaths, null);
+    }
+
+    @Benchmark
+    public Map<String, Object> map() {
+        return JsonUtils.map(node);
+    }
+
+    @Benchmark
+    public String asStringNode() {
+        return JsonUtils.asString(node);
+    }
+
+    @Benchmark
+    public String asStringMap() {
+        return JsonUtils.asString(map);
+    }
+}
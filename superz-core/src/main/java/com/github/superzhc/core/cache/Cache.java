@@ -0,0 +1,683 @@
+package com.github.superzhc.core.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * 有界的并发缓存
+ * <p>
+ * 数据存放在 ConcurrentHashMap 中，读取不加锁；淘汰顺序按 key 的哈希分段维护，每段一把锁，写入时加锁，
+ * 读取时仅尝试加锁记录访问（锁被占用则放弃本次记录，不阻塞读）。淘汰策略为简化的 W-TinyLFU：
+ * <ul>
+ *     <li>新数据先进入窗口区（约占容量的 1%，LRU），窗口区溢出的数据作为候选进入主区</li>
+ *     <li>主区已满时，候选与主区最久未访问的数据比较近期访问频率（{@link FrequencySketch}），频率高者保留</li>
+ *     <li>偶发访问的数据难以挤掉热点数据，扫描式的批量读取不会冲掉整个缓存</li>
+ * </ul>
+ * 支持按条数或按权重限制容量、写入后过期、访问后过期，以及命中率等统计。容量按分段平均分配，
+ * key 分布不均时单个分段可能先于整体达到上限。
+ * <pre>
+ * Cache&lt;String, JsonPath&gt; cache = Cache.newBuilder().maximumSize(1024).expireAfterWrite(10, TimeUnit.MINUTES).build();
+ * JsonPath path = cache.get(expression, JsonPath::compile);
+ * </pre>
+ *
+ * @author superz
+ * @create 2026/10/18 22:45
+ **/
+public final class Cache<K, V> {
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    /**
+     * 每个分段至少保留的容量，容量较小时减少分段数，使频率比较有意义
+     */
+    private static final long MIN_STRIPE_CAPACITY = 64;
+    /**
+     * 每次写入时顺带检查的过期数据条数
+     */
+    private static final int EXPIRE_SCAN_LIMIT = 8;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    /**
+     * 正在加载的 key，loader 在锁外执行，同一 key 的其他线程等待该占位的结果
+     */
+    private final ConcurrentHashMap<K, Loading<V>> loading = new ConcurrentHashMap<>();
+    private final List<Stripe> stripes;
+    private final int stripeMask;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    /**
+     * 纳秒，0 表示不过期
+     */
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+
+    private Cache(Builder<? super K, ? super V> builder) {
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+
+        long maximum = builder.maximum;
+        int count = (int) Math.max(1L, Math.min(builder.concurrencyLevel, maximum / MIN_STRIPE_CAPACITY));
+        count = Integer.highestOneBit(count);
+        this.stripes = new ArrayList<>(count);
+        this.stripeMask = count - 1;
+        for (int i = 0; i < count; i++) {
+            // 余数分给前几个分段，总容量与设置值一致
+            long capacity = maximum / count + (i < maximum % count ? 1 : 0);
+            stripes.add(new Stripe(capacity));
+        }
+
+        this.data = new ConcurrentHashMap<>((int) Math.min(1 << 16, maximum), 0.75f, count);
+    }
+
+    public static Builder<Object, Object> newBuilder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 获取缓存值，不存在或已过期时返回 null
+     *
+     * @param key
+     * @return
+     */
+    public V get(K key) {
+        int hash = spread(key.hashCode());
+        Node<K, V> node = data.get(key);
+        if (null != node && !expired(node, System.nanoTime())) {
+            return hit(node);
+        }
+
+        Stripe stripe = stripe(hash);
+        if (null != node) {
+            // 锁内复查时已被并发的 put 刷新，按命中处理
+            if (!stripe.expire(node)) {
+                return hit(node);
+            }
+        } else {
+            stripe.recordMiss(hash);
+        }
+        missCount.increment();
+        return null;
+    }
+
+    /**
+     * 获取缓存值，不存在时调用 loader 计算并写入缓存
+     * <p>
+     * 同一 key 的 loader 只会执行一次：第一个线程放入占位后在锁外执行 loader，同一 key 的其他线程等待其结果，
+     * 不同 key 的加载互不阻塞，loader 中可以读写本缓存的其他 key。loader 中再次加载同一个 key 会抛出 IllegalStateException。
+     * loader 返回 null 时不写入缓存，抛出的异常原样抛出（等待的线程也会收到同一个异常）
+     *
+     * @param key
+     * @param loader
+     * @return
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        int hash = spread(key.hashCode());
+        Node<K, V> node = data.get(key);
+        if (null != node && !expired(node, System.nanoTime())) {
+            return hit(node);
+        }
+
+        Loading<V> placeholder = new Loading<>();
+        Loading<V> other = loading.putIfAbsent(key, placeholder);
+        if (null != other) {
+            if (other.thread == Thread.currentThread())
+                throw new IllegalStateException("loader 中递归加载同一个 key：" + key);
+            missCount.increment();
+            return other.await();
+        }
+
+        try {
+            // 放入占位后再查一次，其他线程可能刚完成加载并移除了占位
+            node = data.get(key);
+            if (null != node && (!expired(node, System.nanoTime()) || !stripe(hash).expire(node))) {
+                V value = hit(node);
+                placeholder.complete(value);
+                return value;
+            }
+            missCount.increment();
+
+            long start = System.nanoTime();
+            V value;
+            try {
+                value = loader.apply(key);
+            } catch (RuntimeException | Error e) {
+                loadFailureCount.increment();
+                throw e;
+            } finally {
+                loadCount.increment();
+                totalLoadTime.add(System.nanoTime() - start);
+            }
+
+            if (null != value) {
+                Stripe stripe = stripe(hash);
+                stripe.lock.lock();
+                try {
+                    stripe.put(key, hash, value);
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+            placeholder.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            placeholder.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, placeholder);
+        }
+    }
+
+    public void put(K key, V value) {
+        if (null == value)
+            throw new NullPointerException("value 不能为 null");
+
+        int hash = spread(key.hashCode());
+        Stripe stripe = stripe(hash);
+        stripe.lock.lock();
+        try {
+            stripe.put(key, hash, value);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 移除缓存值
+     *
+     * @param key
+     * @return 被移除的值（含已过期未清理的值），不存在时为 null
+     */
+    public V invalidate(K key) {
+        Stripe stripe = stripe(spread(key.hashCode()));
+        stripe.lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (null == node)
+                return null;
+            stripe.remove(node);
+            return node.value;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.clear();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 当前条数，含已过期但未清理的数据
+     *
+     * @return
+     */
+    public long size() {
+        return data.size();
+    }
+
+    /**
+     * 当前总权重，未设置 weigher 时与条数相同
+     *
+     * @return
+     */
+    public long weightedSize() {
+        long weight = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                weight += stripe.windowWeight + stripe.mainWeight;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * 立即清理所有已过期的数据；平时过期数据在读取或写入同一分段时顺带清理
+     */
+    public void cleanUp() {
+        long now = System.nanoTime();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.expireAll(now);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadCount.sum(), loadFailureCount.sum(),
+                totalLoadTime.sum(), evictionCount.sum(), expiredCount.sum());
+    }
+
+    private V hit(Node<K, V> node) {
+        hitCount.increment();
+        if (expireAfterAccessNanos > 0) {
+            node.accessTime = System.nanoTime();
+        }
+        stripe(node.hash).recordHit(node);
+        return node.value;
+    }
+
+    private boolean expired(Node<K, V> node, long now) {
+        return (expireAfterWriteNanos > 0 && now - node.writeTime >= expireAfterWriteNanos)
+                || (expireAfterAccessNanos > 0 && now - node.accessTime >= expireAfterAccessNanos);
+    }
+
+    private Stripe stripe(int hash) {
+        return stripes.get((hash >>> 16) & stripeMask);
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 加载中的占位，记录加载线程以发现 loader 中对同一 key 的递归加载
+     */
+    private static final class Loading<V> extends CompletableFuture<V> {
+        final Thread thread = Thread.currentThread();
+
+        V await() {
+            try {
+                return join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                if (cause instanceof Error)
+                    throw (Error) cause;
+                throw e;
+            }
+        }
+    }
+
+    private static final class Node<K, V> {
+        static final byte WINDOW = 0;
+        static final byte MAIN = 1;
+
+        final K key;
+        final int hash;
+        volatile V value;
+        volatile long writeTime;
+        volatile long accessTime;
+
+        //region===================================以下字段由分段锁保护===================================================================
+        int weight;
+        byte queue = WINDOW;
+        boolean alive = true;
+        Node<K, V> prev;
+        Node<K, V> next;
+        //endregion================================以下字段由分段锁保护===================================================================
+
+        Node(K key, int hash, V value, int weight, long now) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+    }
+
+    /**
+     * 双向链表，头部为最久未访问的数据
+     */
+    private static final class Queue<K, V> {
+        Node<K, V> head;
+        Node<K, V> tail;
+
+        void addLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (null == tail) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void unlink(Node<K, V> node) {
+            if (null == node.prev) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (null == node.next) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (tail != node) {
+                unlink(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+        }
+    }
+
+    private final class Stripe {
+        final ReentrantLock lock = new ReentrantLock();
+        final FrequencySketch sketch;
+        final long windowMax;
+        final long mainMax;
+        final Queue<K, V> window = new Queue<>();
+        final Queue<K, V> main = new Queue<>();
+        long windowWeight = 0;
+        long mainWeight = 0;
+
+        Stripe(long capacity) {
+            this.windowMax = Math.max(1L, capacity / 100);
+            this.mainMax = Math.max(0L, capacity - windowMax);
+            this.sketch = new FrequencySketch(Math.min(capacity, 1 << 16));
+        }
+
+        void recordHit(Node<K, V> node) {
+            if (!lock.tryLock())
+                return;
+            try {
+                if (node.alive) {
+                    sketch.increment(node.hash);
+                    queue(node).moveToLast(node);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void recordMiss(int hash) {
+            if (!lock.tryLock())
+                return;
+            try {
+                sketch.increment(hash);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 移除锁外判定为已过期的数据；锁外判定后 put 可能已原地刷新了该节点，因此在锁内重新判定
+         *
+         * @return 节点已不在缓存中时为 true，节点被刷新仍有效时为 false
+         */
+        boolean expire(Node<K, V> node) {
+            lock.lock();
+            try {
+                if (!node.alive) {
+                    return true;
+                }
+                if (!expired(node, System.nanoTime())) {
+                    return false;
+                }
+                remove(node);
+                expiredCount.increment();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 需持有锁
+         */
+        void put(K key, int hash, V value) {
+            int weight = null == weigher ? 1 : weigher.applyAsInt(key, value);
+            if (weight < 0)
+                throw new IllegalArgumentException("权重不能为负数：" + weight);
+
+            long now = System.nanoTime();
+            sketch.increment(hash);
+            Node<K, V> node = data.get(key);
+            if (null != node) {
+                // 原地更新，保持所在区域
+                addWeight(node, weight - node.weight);
+                node.weight = weight;
+                node.value = value;
+                node.writeTime = now;
+                node.accessTime = now;
+                queue(node).moveToLast(node);
+            } else {
+                node = new Node<>(key, hash, value, weight, now);
+                data.put(key, node);
+                window.addLast(node);
+                windowWeight += weight;
+            }
+
+            expireHeads(now);
+            evict();
+        }
+
+        /**
+         * 需持有锁
+         */
+        void remove(Node<K, V> node) {
+            queue(node).unlink(node);
+            addWeight(node, -node.weight);
+            node.alive = false;
+            data.remove(node.key, node);
+        }
+
+        void clear() {
+            clear(window);
+            clear(main);
+            windowWeight = 0;
+            mainWeight = 0;
+        }
+
+        private void clear(Queue<K, V> q) {
+            for (Node<K, V> node = q.head; null != node; node = node.next) {
+                node.alive = false;
+                data.remove(node.key, node);
+            }
+            q.clear();
+        }
+
+        void expireAll(long now) {
+            if (expireAfterWriteNanos == 0 && expireAfterAccessNanos == 0)
+                return;
+
+            expire(window, now, Integer.MAX_VALUE, false);
+            expire(main, now, Integer.MAX_VALUE, false);
+        }
+
+        /**
+         * 检查两个区域头部的少量数据，及时清理过期数据，避免其占用容量挤掉有效数据
+         */
+        private void expireHeads(long now) {
+            if (expireAfterWriteNanos == 0 && expireAfterAccessNanos == 0)
+                return;
+
+            expire(window, now, EXPIRE_SCAN_LIMIT, true);
+            expire(main, now, EXPIRE_SCAN_LIMIT, true);
+        }
+
+        /**
+         * 从头部开始检查最多 limit 条数据
+         *
+         * @param stopAtLive 为 true 时遇到未过期的数据即停止
+         */
+        private void expire(Queue<K, V> q, long now, int limit, boolean stopAtLive) {
+            Node<K, V> node = q.head;
+            for (int i = 0; i < limit && null != node; i++) {
+                Node<K, V> next = node.next;
+                if (expired(node, now)) {
+                    remove(node);
+                    expiredCount.increment();
+                } else if (stopAtLive) {
+                    return;
+                }
+                node = next;
+            }
+        }
+
+        private void evict() {
+            while (windowWeight > windowMax) {
+                // 窗口区最久未访问的数据作为候选进入主区
+                Node<K, V> candidate = window.head;
+                window.unlink(candidate);
+                windowWeight -= candidate.weight;
+                candidate.queue = Node.MAIN;
+                main.addLast(candidate);
+                mainWeight += candidate.weight;
+
+                while (mainWeight > mainMax) {
+                    Node<K, V> victim = main.head;
+                    if (victim == candidate || sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+                        evict(candidate);
+                        break;
+                    }
+                    evict(victim);
+                }
+            }
+
+            // 原地更新可能使主区超出容量
+            while (mainWeight > mainMax) {
+                evict(main.head);
+            }
+        }
+
+        private void evict(Node<K, V> node) {
+            remove(node);
+            evictionCount.increment();
+        }
+
+        private Queue<K, V> queue(Node<K, V> node) {
+            return node.queue == Node.WINDOW ? window : main;
+        }
+
+        private void addWeight(Node<K, V> node, long delta) {
+            if (node.queue == Node.WINDOW) {
+                windowWeight += delta;
+            } else {
+                mainWeight += delta;
+            }
+        }
+    }
+
+    public static final class Builder<K, V> {
+        private long maximum = -1;
+        private ToIntBiFunction<? super K, ? super V> weigher = null;
+        private long expireAfterWriteNanos = 0;
+        private long expireAfterAccessNanos = 0;
+        private int concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
+
+        private Builder() {
+        }
+
+        /**
+         * 最大条数，与 maximumWeight 二选一
+         *
+         * @param maximumSize
+         * @return
+         */
+        public Builder<K, V> maximumSize(long maximumSize) {
+            if (maximumSize <= 0)
+                throw new IllegalArgumentException("maximumSize 必须大于 0");
+            if (null != weigher)
+                throw new IllegalStateException("已设置 weigher，请使用 maximumWeight");
+
+            this.maximum = maximumSize;
+            return this;
+        }
+
+        /**
+         * 最大总权重，需同时设置 weigher
+         *
+         * @param maximumWeight
+         * @return
+         */
+        public Builder<K, V> maximumWeight(long maximumWeight) {
+            if (maximumWeight <= 0)
+                throw new IllegalArgumentException("maximumWeight 必须大于 0");
+
+            this.maximum = maximumWeight;
+            return this;
+        }
+
+        /**
+         * 计算每条数据的权重，如字节数；写入时计算一次
+         *
+         * @param weigher
+         * @param <K1>
+         * @param <V1>
+         * @return
+         */
+        @SuppressWarnings("unchecked")
+        public <K1 extends K, V1 extends V> Builder<K1, V1> weigher(ToIntBiFunction<? super K1, ? super V1> weigher) {
+            Builder<K1, V1> self = (Builder<K1, V1>) this;
+            self.weigher = weigher;
+            return self;
+        }
+
+        public Builder<K, V> expireAfterWrite(long duration, TimeUnit unit) {
+            this.expireAfterWriteNanos = positive(unit.toNanos(duration), "expireAfterWrite");
+            return this;
+        }
+
+        public Builder<K, V> expireAfterAccess(long duration, TimeUnit unit) {
+            this.expireAfterAccessNanos = positive(unit.toNanos(duration), "expireAfterAccess");
+            return this;
+        }
+
+        /**
+         * 分段数上限，实际取不超过该值的 2 的幂，且每段容量不少于 64
+         *
+         * @param concurrencyLevel
+         * @return
+         */
+        public Builder<K, V> concurrencyLevel(int concurrencyLevel) {
+            if (concurrencyLevel <= 0)
+                throw new IllegalArgumentException("concurrencyLevel 必须大于 0");
+
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        public <K1 extends K, V1 extends V> Cache<K1, V1> build() {
+            if (maximum <= 0)
+                throw new IllegalStateException("必须设置 maximumSize 或 maximumWeight");
+
+            return new Cache<>(this);
+        }
+
+        private static long positive(long nanos, String name) {
+            if (nanos <= 0)
+                throw new IllegalArgumentException(name + " 必须大于 0");
+            return nanos;
+        }
+    }
+}
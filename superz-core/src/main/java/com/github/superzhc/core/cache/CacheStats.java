@@ -0,0 +1,103 @@
+package com.github.superzhc.core.cache;
+
+/**
+ * 缓存统计的快照
+ *
+ * @author superz
+ * @create 2026/10/18 22:40
+ **/
+public final class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long evictionCount;
+    private final long expiredCount;
+
+    CacheStats(long hitCount, long missCount, long loadCount, long loadFailureCount, long totalLoadTime, long evictionCount, long expiredCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+        this.expiredCount = expiredCount;
+    }
+
+    public long hitCount() {
+        return hitCount;
+    }
+
+    public long missCount() {
+        return missCount;
+    }
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * 无请求时为 1.0
+     *
+     * @return
+     */
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * 调用 loader 的次数，含失败
+     *
+     * @return
+     */
+    public long loadCount() {
+        return loadCount;
+    }
+
+    public long loadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * loader 的平均耗时（纳秒）
+     *
+     * @return
+     */
+    public double averageLoadPenalty() {
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+
+    /**
+     * 因容量被淘汰（含未通过准入直接丢弃）的条数
+     *
+     * @return
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * 因过期被移除的条数
+     *
+     * @return
+     */
+    public long expiredCount() {
+        return expiredCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", hitRate=" + String.format("%.4f", hitRate()) +
+                ", loadCount=" + loadCount +
+                ", loadFailureCount=" + loadFailureCount +
+                ", averageLoadPenalty=" + String.format("%.1fns", averageLoadPenalty()) +
+                ", evictionCount=" + evictionCount +
+                ", expiredCount=" + expiredCount +
+                '}';
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.superzhc.core.cache;
+
+/**
+ * 访问频率的近似统计（Count-Min Sketch，4 位计数器），用于 TinyLFU 准入判断
+ * <p>
+ * 每个 long 存放 16 个计数器，计数上限为 15；累计增加次数达到样本数后所有计数减半，使旧的热点逐渐冷却。
+ * 非线程安全，由调用方加锁
+ *
+ * @author superz
+ * @create 2026/10/18 22:40
+ **/
+final class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions = 0;
+
+    /**
+     * @param capacity 缓存容量（条数），计数表大小与其相当
+     */
+    FrequencySketch(long capacity) {
+        int size = (int) Math.min(1 << 24, Math.max(8L, capacity));
+        int length = Integer.highestOneBit(size - 1) << 1;
+        this.table = new long[length];
+        this.mask = length - 1;
+        this.sampleSize = (int) Math.min(Integer.MAX_VALUE / 10, Math.max(16L, capacity)) * 10;
+    }
+
+    int frequency(int hash) {
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(int hash) {
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int offset = (start + i) << 2;
+            long mask = 0xfL << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * 所有计数减半
+     */
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & mask;
+    }
+}
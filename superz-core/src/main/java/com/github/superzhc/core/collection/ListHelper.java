@@ -1,4 +1,145 @@
 package com.github.superzhc.core.collection;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * 批量集合处理
+ *
+ * @author superz
+ * @create 2026/10/18 20:40
+ **/
 public class ListHelper {
+    /**
+     * 元素数小于该值时不并行
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
+    /**
+     * 逐个转换元素，结果为预分配容量的 ArrayList
+     *
+     * @param lst
+     * @param function
+     * @param <S>
+     * @param <T>
+     * @return
+     */
+    public static <S, T> List<T> convert(List<S> lst, Function<? super S, ? extends T> function) {
+        if (null == lst)
+            return null;
+
+        List<T> result = new ArrayList<>(lst.size());
+        for (S item : lst) {
+            result.add(function.apply(item));
+        }
+        return result;
+    }
+
+    public static <S, T> List<T> convert(List<S> lst, Function<? super S, ? extends T> function, boolean parallel) {
+        return parallel ? convert(lst, function, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD) : convert(lst, function);
+    }
+
+    /**
+     * 按范围切分后在指定的 ForkJoinPool 中并行转换，结果顺序与原列表一致
+     *
+     * @param lst
+     * @param function  需线程安全
+     * @param pool
+     * @param threshold 元素数小于该值时顺序转换
+     * @param <S>
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <S, T> List<T> convert(List<S> lst, Function<? super S, ? extends T> function, ForkJoinPool pool, int threshold) {
+        if (null == lst)
+            return null;
+
+        int size = lst.size();
+        if (size < threshold)
+            return convert(lst, function);
+
+        // 非随机访问的列表（如 LinkedList）先转成数组
+        Object[] source = lst.toArray();
+        Object[] target = new Object[size];
+        forEachRange(size, pool, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                target[i] = function.apply((S) source[i]);
+            }
+        });
+        return new ArrayList<>((List<T>) Arrays.asList(target));
+    }
+
+    /**
+     * 将 [0, size) 按范围切分，在指定的 ForkJoinPool 中并行处理，返回时所有范围均已处理完
+     * <p>
+     * 每个线程约分到 4 个范围以便负载均衡；超过 256 个元素才继续二分，单个范围不少于 128 个元素
+     *
+     * @param size
+     * @param pool
+     * @param consumer 各范围互不重叠，写入不同下标时无需加锁
+     */
+    public static void forEachRange(int size, ForkJoinPool pool, RangeConsumer consumer) {
+        int rangeSize = Math.max(256, size / (pool.getParallelism() * 4));
+        pool.invoke(new RangeAction(0, size, rangeSize, consumer));
+    }
+
+    /**
+     * 按固定大小切分，返回的子列表为原列表的视图
+     *
+     * @param lst
+     * @param size
+     * @param <T>
+     * @return
+     */
+    public static <T> List<List<T>> partition(List<T> lst, int size) {
+        if (size <= 0)
+            throw new IllegalArgumentException("size 必须大于 0");
+
+        List<List<T>> result = new ArrayList<>((lst.size() + size - 1) / size);
+        for (int i = 0, len = lst.size(); i < len; i += size) {
+            result.add(lst.subList(i, Math.min(i + size, len)));
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface RangeConsumer {
+        /**
+         * @param from 包含
+         * @param to   不包含
+         */
+        void accept(int from, int to);
+    }
+
+    private static class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+        private final RangeConsumer consumer;
+
+        RangeAction(int from, int to, int rangeSize, RangeConsumer consumer) {
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= rangeSize) {
+                consumer.accept(from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeAction(from, mid, rangeSize, consumer), new RangeAction(mid, to, rangeSize, consumer));
+        }
+    }
 }
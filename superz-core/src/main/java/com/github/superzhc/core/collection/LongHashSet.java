@@ -0,0 +1,188 @@
+package com.github.superzhc.core.collection;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * long 集合，开放寻址（线性探测），元素不装箱
+ * <p>
+ * 0 作为空槽标记，值为 0 的元素单独记录；删除时后移归位，不留墓碑
+ *
+ * @author superz
+ * @create 2026/10/18 21:40
+ **/
+public class LongHashSet {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private int mask;
+    private int maxFill;
+    /**
+     * 不含值为 0 的元素
+     */
+    private int size;
+    private boolean hasZero;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    /**
+     * @param expected 预计的元素个数，达到该数量前不扩容
+     */
+    public LongHashSet(int expected) {
+        allocate(tableSize(expected));
+    }
+
+    public int size() {
+        return hasZero ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @param key
+     * @return 元素不存在且已添加时返回 true
+     */
+    public boolean add(long key) {
+        if (key == 0) {
+            if (hasZero)
+                return false;
+            hasZero = true;
+            return true;
+        }
+
+        int slot = hash(key) & mask;
+        long k;
+        while ((k = keys[slot]) != 0) {
+            if (k == key)
+                return false;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        if (++size >= maxFill)
+            rehash(keys.length << 1);
+        return true;
+    }
+
+    public boolean contains(long key) {
+        if (key == 0)
+            return hasZero;
+
+        int slot = hash(key) & mask;
+        long k;
+        while ((k = keys[slot]) != 0) {
+            if (k == key)
+                return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean remove(long key) {
+        if (key == 0) {
+            boolean existed = hasZero;
+            hasZero = false;
+            return existed;
+        }
+
+        int slot = hash(key) & mask;
+        long k;
+        while ((k = keys[slot]) != 0) {
+            if (k == key) {
+                shiftKeys(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        size = 0;
+        hasZero = false;
+    }
+
+    public long[] toArray() {
+        long[] arr = new long[size()];
+        int i = 0;
+        if (hasZero)
+            arr[i++] = 0L;
+        for (long k : keys) {
+            if (k != 0)
+                arr[i++] = k;
+        }
+        return arr;
+    }
+
+    public void forEach(LongConsumer action) {
+        if (hasZero)
+            action.accept(0L);
+        for (long k : keys) {
+            if (k != 0)
+                action.accept(k);
+        }
+    }
+
+    /**
+     * 删除 pos 处的元素，并把其后同一探测链上的元素前移，保证查找时不会提前遇到空槽
+     */
+    private void shiftKeys(int pos) {
+        int last;
+        long k;
+        for (; ; ) {
+            pos = ((last = pos) + 1) & mask;
+            for (; ; ) {
+                if ((k = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                int slot = hash(k) & mask;
+                // 元素的理想位置不在 (last, pos] 区间内时可移到 last
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                    break;
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = k;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] old = keys;
+        allocate(capacity);
+        for (long k : old) {
+            if (k != 0) {
+                int slot = hash(k) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = k;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) (capacity * LOAD_FACTOR));
+    }
+
+    static int tableSize(int expected) {
+        long capacity = Math.max(2L, (long) Math.ceil(expected / LOAD_FACTOR) + 1);
+        if (capacity > (1 << 30))
+            throw new IllegalArgumentException("元素个数过多：" + expected);
+        return Integer.highestOneBit((int) capacity - 1) << 1;
+    }
+
+    /**
+     * 乘法散列后取高位与低位混合，避免连续整数集中在相邻槽位
+     */
+    static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,234 @@
+package com.github.superzhc.core.collection;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * key 为 long 的 Map，开放寻址（线性探测），key 不装箱
+ * <p>
+ * 0 作为空槽标记，key 为 0 的值单独记录；value 可以为 null，但 get 无法区分 null 值与 key 不存在，需要时使用 containsKey
+ *
+ * @author superz
+ * @create 2026/10/18 21:50
+ **/
+public class LongObjectMap<V> {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int maxFill;
+    /**
+     * 不含 key 为 0 的元素
+     */
+    private int size;
+    private boolean hasZero;
+    private V zeroValue;
+
+    public LongObjectMap() {
+        this(16);
+    }
+
+    /**
+     * @param expected 预计的元素个数，达到该数量前不扩容
+     */
+    public LongObjectMap(int expected) {
+        allocate(LongHashSet.tableSize(expected));
+    }
+
+    public int size() {
+        return hasZero ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == 0)
+            return hasZero;
+        return find(key) >= 0;
+    }
+
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == 0)
+            return hasZero ? zeroValue : defaultValue;
+
+        int slot = find(key);
+        return slot < 0 ? defaultValue : (V) values[slot];
+    }
+
+    /**
+     * @param key
+     * @param value
+     * @return 原值，不存在时为 null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == 0) {
+            V old = zeroValue;
+            zeroValue = value;
+            hasZero = true;
+            return old;
+        }
+
+        int slot = hash(key);
+        long k;
+        while ((k = keys[slot]) != 0) {
+            if (k == key) {
+                V old = (V) values[slot];
+                values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= maxFill)
+            rehash(keys.length << 1);
+        return null;
+    }
+
+    /**
+     * key 不存在或值为 null 时使用 function 计算并写入，function 返回 null 时不写入；与 java.util.Map 一致，已存储的 null 值视为不存在
+     *
+     * @param key
+     * @param function
+     * @return
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> function) {
+        V value = get(key);
+        if (null == value) {
+            value = function.apply(key);
+            if (null != value)
+                put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * @param key
+     * @return 被删除的值，不存在时为 null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0) {
+            V old = zeroValue;
+            zeroValue = null;
+            hasZero = false;
+            return old;
+        }
+
+        int slot = find(key);
+        if (slot < 0)
+            return null;
+
+        V old = (V) values[slot];
+        shiftKeys(slot);
+        size--;
+        return old;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(values, null);
+        size = 0;
+        hasZero = false;
+        zeroValue = null;
+    }
+
+    public long[] keys() {
+        long[] arr = new long[size()];
+        int i = 0;
+        if (hasZero)
+            arr[i++] = 0L;
+        for (long k : keys) {
+            if (k != 0)
+                arr[i++] = k;
+        }
+        return arr;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(LongObjectConsumer<? super V> action) {
+        if (hasZero)
+            action.accept(0L, zeroValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0)
+                action.accept(keys[i], (V) values[i]);
+        }
+    }
+
+    @FunctionalInterface
+    public interface LongObjectConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    private int find(long key) {
+        int slot = hash(key);
+        long k;
+        while ((k = keys[slot]) != 0) {
+            if (k == key)
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int hash(long key) {
+        return LongHashSet.hash(key) & mask;
+    }
+
+    /**
+     * 删除 pos 处的元素，并把其后同一探测链上的元素前移，见 {@link LongHashSet}
+     */
+    private void shiftKeys(int pos) {
+        int last;
+        long k;
+        for (; ; ) {
+            pos = ((last = pos) + 1) & mask;
+            for (; ; ) {
+                if ((k = keys[pos]) == 0) {
+                    keys[last] = 0;
+                    values[last] = null;
+                    return;
+                }
+                int slot = hash(k);
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                    break;
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = k;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long k = oldKeys[i];
+            if (k != 0) {
+                int slot = hash(k);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = k;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) (capacity * LOAD_FACTOR));
+    }
+}
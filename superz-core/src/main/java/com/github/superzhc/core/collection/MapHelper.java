@@ -3,71 +3,392 @@ package com.github.superzhc.core.collection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.Map;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.Function;
 
 public class MapHelper {
     private static final Logger LOG = LoggerFactory.getLogger(MapHelper.class);
 
+    /**
+     * 2026年10月18日 按类缓存字段访问器，避免每次转换都反射扫描构造函数、字段
+     */
+    private static final ClassValue<BeanMapper<?>> mappers = new ClassValue<BeanMapper<?>>() {
+        @Override
+        protected BeanMapper<?> computeValue(Class<?> type) {
+            return new BeanMapper<>(type);
+        }
+    };
+
+    /**
+     * 获取类的映射器，循环中转换大量数据时可持有该对象，省去缓存查找
+     *
+     * @param beanClass
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanMapper<T> mapper(Class<T> beanClass) {
+        return (BeanMapper<T>) mappers.get(beanClass);
+    }
+
     public static <T> T mapToBean(Map<String, ?> map, Class<T> beanClass) {
         if (null == map)
             return null;
 
+        return mapper(beanClass).toBean(map);
+    }
+
+    public static Map<String, ?> beanToMap(Object obj) {
+        if (null == obj) return null;
+
         try {
-            boolean emptyConstructor = false;
-            Constructor[] constructors = beanClass.getDeclaredConstructors();
-            for (Constructor constructor : constructors) {
-                if (constructor.getParameterCount() == 0) {
-                    emptyConstructor = true;
+            return mapper(obj.getClass()).toMap(obj);
+        } catch (Exception e) {
+            LOG.error("转化失败", e);
+            return null;
+        }
+    }
+
+    public static <T> List<T> mapsToBeans(List<? extends Map<String, ?>> maps, Class<T> beanClass) {
+        return mapsToBeans(maps, beanClass, false);
+    }
+
+    /**
+     * 批量转换，类的映射信息只解析一次
+     *
+     * @param maps
+     * @param beanClass
+     * @param parallel  为 true 且数据量较大时使用公共 ForkJoinPool 并行转换，结果顺序不变
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> mapsToBeans(List<? extends Map<String, ?>> maps, Class<T> beanClass, boolean parallel) {
+        if (null == maps)
+            return null;
+
+        BeanMapper<T> mapper = mapper(beanClass);
+        return ListHelper.convert(maps, map -> null == map ? null : mapper.toBean(map), parallel);
+    }
+
+    public static List<Map<String, Object>> beansToMaps(List<?> beans) {
+        return beansToMaps(beans, false);
+    }
+
+    /**
+     * 批量转换，元素类型相同时映射信息只查找一次；输出的 Map 共用字段名结构
+     *
+     * @param beans
+     * @param parallel 为 true 且数据量较大时使用公共 ForkJoinPool 并行转换，结果顺序不变
+     * @return
+     */
+    public static List<Map<String, Object>> beansToMaps(List<?> beans, boolean parallel) {
+        if (null == beans)
+            return null;
+
+        Object first = null;
+        for (Object bean : beans) {
+            if (null != bean) {
+                first = bean;
+                break;
+            }
+        }
+        if (null == first)
+            return ListHelper.convert(beans, bean -> null);
+
+        BeanMapper<?> mapper = mapper(first.getClass());
+        return ListHelper.convert(beans, bean -> {
+            if (null == bean)
+                return null;
+            return (bean.getClass() == mapper.beanClass() ? mapper : mapper(bean.getClass())).toMap(bean);
+        }, parallel);
+    }
+
+    /**
+     * Map 与 Bean 的映射器
+     * <p>
+     * 创建时解析一次类的空构造函数和非静态字段，并转换成 MethodHandle；值的类型与字段不一致时按字段类型转换：
+     * <ul>
+     *     <li>数值之间互相转换，如 Integer 转 long、Double 转 BigDecimal；转换为整数类型时必须是该类型范围内的整数，如 1.5、超出 int 范围的值转 int 抛出异常</li>
+     *     <li>字符串转数值、布尔、字符、枚举</li>
+     *     <li>任意值转字符串</li>
+     *     <li>基本类型字段遇到 null 值时保持默认值</li>
+     * </ul>
+     *
+     * @param <T>
+     */
+    public static final class BeanMapper<T> {
+        private final Class<T> beanClass;
+        /**
+         * 类型为 ()Object，无空构造函数时为 null
+         */
+        private final MethodHandle constructor;
+        private final Property[] properties;
+        /**
+         * 2026年10月18日 toMap 输出的行共用该结构
+         */
+        private final RowMap.Schema schema;
+
+        private BeanMapper(Class<T> beanClass) {
+            this.beanClass = beanClass;
+
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            MethodHandle ctor = null;
+            for (Constructor<?> constructor : beanClass.getDeclaredConstructors()) {
+                if (constructor.getParameterCount() == 0 && !Modifier.isAbstract(beanClass.getModifiers())) {
+                    try {
+                        constructor.setAccessible(true);
+                        ctor = lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+                    } catch (Exception e) {
+                        throw new RuntimeException("转化失败", e);
+                    }
                     break;
                 }
             }
-            if (!emptyConstructor)
-                throw new RuntimeException("无空构造函数，Map无法转" + beanClass.getName());
+            this.constructor = ctor;
 
-            T obj = beanClass.newInstance();
-
-            Field[] fields = beanClass.getDeclaredFields();
-            for (Field field : fields) {
+            List<Property> lst = new ArrayList<>();
+            for (Field field : beanClass.getDeclaredFields()) {
                 int mod = field.getModifiers();
                 // 静态变量不做处理，一般Bean中不存在静态变量
                 if (Modifier.isStatic(mod))
                     continue;
 
-                field.setAccessible(true);
-                field.set(obj, map.get(field.getName()));
+                lst.add(new Property(lookup, field));
             }
+            this.properties = lst.toArray(new Property[0]);
+
+            String[] names = new String[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                names[i] = properties[i].name;
+            }
+            this.schema = RowMap.Schema.of(names);
+        }
 
+        public Class<T> beanClass() {
+            return beanClass;
+        }
+
+        /**
+         * 字段名，即 Map 的 key
+         *
+         * @return
+         */
+        public List<String> names() {
+            return schema.keys();
+        }
+
+        @SuppressWarnings("unchecked")
+        public T newInstance() {
+            if (null == constructor)
+                throw new RuntimeException("无空构造函数，Map无法转" + beanClass.getName());
+
+            try {
+                return (T) (Object) constructor.invokeExact();
+            } catch (Throwable e) {
+                throw new RuntimeException("转化失败", e);
+            }
+        }
+
+        public T toBean(Map<String, ?> map) {
+            T obj = newInstance();
+            for (Property property : properties) {
+                property.set(obj, map.get(property.name));
+            }
             return obj;
-        } catch (Exception e) {
-            throw new RuntimeException("转化失败", e);
         }
-    }
 
-    public static Map<String, ?> beanToMap(Object obj) {
-        if (null == obj) return null;
+        /**
+         * 转换为 {@link RowMap}，同一个类的所有结果共用字段名结构，按字段声明顺序遍历
+         *
+         * @param obj
+         * @return
+         */
+        public Map<String, Object> toMap(Object obj) {
+            Object[] values = new Object[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                values[i] = properties[i].get(obj);
+            }
+            return RowMap.of(schema, values);
+        }
+    }
 
-        Map<String, Object> map = new HashMap<>();
+    private static final class Property {
+        private final String name;
+        private final boolean primitive;
+        /**
+         * 类型为 (Object)Object
+         */
+        private final MethodHandle getter;
+        /**
+         * 类型为 (Object,Object)void
+         */
+        private final MethodHandle setter;
+        private final Function<Object, Object> converter;
 
-        try {
-            Field[] fields = obj.getClass().getDeclaredFields();
-            for (Field field : fields) {
-                int mod = field.getModifiers();
-                // 静态变量不做处理，一般Bean中不存在静态变量
-                if (Modifier.isStatic(mod))
-                    continue;
+        Property(MethodHandles.Lookup lookup, Field field) {
+            this.name = field.getName();
+            this.primitive = field.getType().isPrimitive();
+            this.converter = converter(field.getType());
 
+            try {
                 field.setAccessible(true);
-                map.put(field.getName(), field.get(obj));
+                this.getter = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+                this.setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("转化失败，无法访问字段" + field, e);
+            }
+        }
+
+        Object get(Object obj) {
+            try {
+                return (Object) getter.invokeExact(obj);
+            } catch (Throwable e) {
+                throw new RuntimeException("转化失败，读取字段" + name + "异常", e);
             }
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
         }
 
-        return map;
+        void set(Object obj, Object value) {
+            if (null == value && primitive)
+                return;
+
+            Object v;
+            try {
+                v = null == value ? null : converter.apply(value);
+            } catch (RuntimeException e) {
+                throw new RuntimeException("转化失败，字段" + name + "无法接收值：" + value, e);
+            }
+
+            try {
+                setter.invokeExact(obj, v);
+            } catch (Throwable e) {
+                throw new RuntimeException("转化失败，字段" + name + "无法接收值：" + value, e);
+            }
+        }
+    }
+
+    //region===================================类型转换===================================================================
+    private static Function<Object, Object> converter(Class<?> type) {
+        Class<?> target = wrap(type);
+        if (target == Object.class)
+            return v -> v;
+        if (target == String.class)
+            return v -> v instanceof String ? v : String.valueOf(v);
+        if (target == Integer.class)
+            return v -> v instanceof Integer ? v : (int) exactLong(v, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        if (target == Long.class)
+            return v -> v instanceof Long ? v : exactLong(v, Long.MIN_VALUE, Long.MAX_VALUE);
+        if (target == Double.class)
+            return v -> v instanceof Double ? v : number(v).doubleValue();
+        if (target == Float.class)
+            return v -> v instanceof Float ? v : number(v).floatValue();
+        if (target == Short.class)
+            return v -> v instanceof Short ? v : (short) exactLong(v, Short.MIN_VALUE, Short.MAX_VALUE);
+        if (target == Byte.class)
+            return v -> v instanceof Byte ? v : (byte) exactLong(v, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        if (target == BigDecimal.class)
+            return v -> v instanceof BigDecimal ? v : new BigDecimal(v instanceof Number ? v.toString() : String.valueOf(v).trim());
+        if (target == BigInteger.class)
+            return v -> v instanceof BigInteger ? v : new BigDecimal(v instanceof Number ? v.toString() : String.valueOf(v).trim()).toBigIntegerExact();
+        if (target == Boolean.class)
+            return v -> {
+                if (v instanceof Boolean)
+                    return v;
+                if (v instanceof Number)
+                    return ((Number) v).doubleValue() != 0.0;
+                String s = String.valueOf(v).trim();
+                return "true".equalsIgnoreCase(s) || "1".equals(s);
+            };
+        if (target == Character.class)
+            return v -> {
+                if (v instanceof Character)
+                    return v;
+                String s = String.valueOf(v);
+                if (s.length() != 1)
+                    throw new IllegalArgumentException("无法转换为字符：" + s);
+                return s.charAt(0);
+            };
+        if (target.isEnum())
+            return v -> {
+                if (target.isInstance(v))
+                    return v;
+                String s = String.valueOf(v).trim();
+                for (Object constant : target.getEnumConstants()) {
+                    if (((Enum<?>) constant).name().equals(s))
+                        return constant;
+                }
+                throw new IllegalArgumentException(target.getName() + "无枚举值：" + s);
+            };
+
+        return v -> {
+            if (target.isInstance(v))
+                return v;
+            throw new IllegalArgumentException("类型" + v.getClass().getName() + "无法转换为" + target.getName());
+        };
+    }
+
+    private static Number number(Object v) {
+        if (v instanceof Number)
+            return (Number) v;
+        if (v instanceof Boolean)
+            return (Boolean) v ? 1 : 0;
+        if (v instanceof Character)
+            return (int) (Character) v;
+
+        String s = String.valueOf(v).trim();
+        // 整数优先按 long 解析，避免大整数经过 double 丢失精度
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException e) {
+            return new BigDecimal(s);
+        }
+    }
+
+    /**
+     * 转换为整数，有小数部分或超出 [min, max] 时抛出 ArithmeticException，不做截断和溢出回绕
+     */
+    private static long exactLong(Object v, long min, long max) {
+        Number n = number(v);
+        long l;
+        if (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte) {
+            l = n.longValue();
+        } else {
+            l = (n instanceof BigDecimal ? (BigDecimal) n : new BigDecimal(n.toString())).longValueExact();
+        }
+
+        if (l < min || l > max)
+            throw new ArithmeticException("超出范围：" + v);
+        return l;
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive())
+            return type;
+        if (type == int.class)
+            return Integer.class;
+        if (type == long.class)
+            return Long.class;
+        if (type == double.class)
+            return Double.class;
+        if (type == float.class)
+            return Float.class;
+        if (type == boolean.class)
+            return Boolean.class;
+        if (type == short.class)
+            return Short.class;
+        if (type == byte.class)
+            return Byte.class;
+        if (type == char.class)
+            return Character.class;
+        return type;
     }
+    //endregion================================类型转换===================================================================
 }
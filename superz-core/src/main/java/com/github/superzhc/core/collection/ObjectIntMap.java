@@ -0,0 +1,224 @@
+package com.github.superzhc.core.collection;
+
+import java.util.Arrays;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * value 为 int 的 Map，开放寻址（线性探测），value 不装箱，常用于计数、建立值到下标的索引
+ * <p>
+ * key 不能为 null；key 不存在时 get 返回 0，需要区分时使用 containsKey 或 getOrDefault
+ *
+ * @author superz
+ * @create 2026/10/18 21:55
+ **/
+public class ObjectIntMap<K> {
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private Object[] keys;
+    private int[] values;
+    private int mask;
+    private int maxFill;
+    private int size;
+
+    public ObjectIntMap() {
+        this(16);
+    }
+
+    /**
+     * @param expected 预计的元素个数，达到该数量前不扩容
+     */
+    public ObjectIntMap(int expected) {
+        allocate(LongHashSet.tableSize(expected));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(Object key) {
+        return find(key) >= 0;
+    }
+
+    public int get(Object key) {
+        return getOrDefault(key, 0);
+    }
+
+    public int getOrDefault(Object key, int defaultValue) {
+        int slot = find(key);
+        return slot < 0 ? defaultValue : values[slot];
+    }
+
+    /**
+     * @param key
+     * @param value
+     * @return 原值，不存在时为 0
+     */
+    public int put(K key, int value) {
+        int slot = slot(key);
+        if (null != keys[slot]) {
+            int old = values[slot];
+            values[slot] = value;
+            return old;
+        }
+
+        insert(slot, key, value);
+        return 0;
+    }
+
+    /**
+     * 累加，key 不存在时从 0 开始
+     *
+     * @param key
+     * @param delta
+     * @return 累加后的值
+     */
+    public int addTo(K key, int delta) {
+        int slot = slot(key);
+        if (null != keys[slot])
+            return values[slot] += delta;
+
+        insert(slot, key, delta);
+        return delta;
+    }
+
+    /**
+     * key 不存在时写入 value
+     *
+     * @param key
+     * @param value
+     * @return 已存在的值，不存在时返回写入的 value
+     */
+    public int putIfAbsent(K key, int value) {
+        int slot = slot(key);
+        if (null != keys[slot])
+            return values[slot];
+
+        insert(slot, key, value);
+        return value;
+    }
+
+    /**
+     * @param key
+     * @return 被删除的值，不存在时为 0
+     */
+    public int remove(Object key) {
+        int slot = find(key);
+        if (slot < 0)
+            return 0;
+
+        int old = values[slot];
+        shiftKeys(slot);
+        size--;
+        return old;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, null);
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjIntConsumer<? super K> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (null != keys[i])
+                action.accept((K) keys[i], values[i]);
+        }
+    }
+
+    /**
+     * key 所在的槽位，不存在时返回 -1
+     */
+    private int find(Object key) {
+        if (null == key)
+            return -1;
+
+        int slot = hash(key);
+        Object k;
+        while (null != (k = keys[slot])) {
+            if (k == key || k.equals(key))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * key 所在的槽位，不存在时返回应插入的空槽
+     */
+    private int slot(Object key) {
+        if (null == key)
+            throw new NullPointerException("key 不能为 null");
+
+        int slot = hash(key);
+        Object k;
+        while (null != (k = keys[slot])) {
+            if (k == key || k.equals(key))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insert(int slot, Object key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= maxFill)
+            rehash(keys.length << 1);
+    }
+
+    private int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * 删除 pos 处的元素，并把其后同一探测链上的元素前移，见 {@link LongHashSet}
+     */
+    private void shiftKeys(int pos) {
+        int last;
+        Object k;
+        for (; ; ) {
+            pos = ((last = pos) + 1) & mask;
+            for (; ; ) {
+                if (null == (k = keys[pos])) {
+                    keys[last] = null;
+                    return;
+                }
+                int slot = hash(k);
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos)
+                    break;
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = k;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int capacity) {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object k = oldKeys[i];
+            if (null != k) {
+                int slot = hash(k);
+                while (null != keys[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = k;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        maxFill = Math.min(capacity - 1, (int) (capacity * LOAD_FACTOR));
+    }
+}
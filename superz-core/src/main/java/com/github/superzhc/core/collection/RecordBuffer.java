@@ -0,0 +1,369 @@
+package com.github.superzhc.core.collection;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 堆外的只追加记录缓冲区，用于写库前暂存大量已编码的数据（如 json、csv 行），避免在堆上保留巨大的 List 加重 GC
+ * <p>
+ * 记录写入按段分配的 DirectByteBuffer，单条记录不跨段；堆外内存达到上限时把所有段顺序写入临时文件并复用这些段，
+ * 遍历时先读文件再读内存，顺序与写入顺序一致。
+ * <ul>
+ *     <li>变长记录：每条记录前写入 4 字节长度</li>
+ *     <li>定长记录：构造时指定 recordSize，不写长度</li>
+ *     <li>遍历返回的 ByteBuffer 为只读视图，仅在下一次调用 next 前有效，需要保留时自行复制</li>
+ *     <li>非线程安全；遍历期间追加记录会抛出 ConcurrentModificationException</li>
+ *     <li>Java 8 无法主动释放 DirectByteBuffer，close 后堆外内存在 GC 回收缓冲区对象时释放</li>
+ * </ul>
+ *
+ * @author superz
+ * @create 2026/10/18 22:20
+ **/
+public class RecordBuffer implements Iterable<ByteBuffer>, Closeable {
+    private static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final int LENGTH_SIZE = 4;
+
+    private final int segmentSize;
+    private final int maxSegments;
+    /**
+     * 大于 0 时为定长记录
+     */
+    private final int recordSize;
+    private final File spillDirectory;
+
+    /**
+     * 已分配的段，溢写后复用；写入区域为 [0, position)
+     */
+    private final List<ByteBuffer> segments = new ArrayList<>();
+    /**
+     * 正在写入的段，-1 表示内存中无数据
+     */
+    private int current = -1;
+    private long count = 0;
+    private int modCount = 0;
+
+    private File spillFile = null;
+    private FileChannel spillChannel = null;
+    private long spilledBytes = 0;
+    private boolean closed = false;
+
+    /**
+     * 变长记录，溢写到系统临时目录
+     *
+     * @param maxMemory 堆外内存上限（字节）
+     */
+    public RecordBuffer(long maxMemory) {
+        this(maxMemory, 0, null);
+    }
+
+    /**
+     * @param maxMemory      堆外内存上限（字节），按不超过 16MB 的段分配
+     * @param recordSize     定长记录的长度，小于等于 0 时为变长记录
+     * @param spillDirectory 溢写文件所在目录，为 null 时使用系统临时目录
+     */
+    public RecordBuffer(long maxMemory, int recordSize, File spillDirectory) {
+        if (maxMemory <= 0)
+            throw new IllegalArgumentException("maxMemory 必须大于 0");
+
+        this.segmentSize = (int) Math.min(maxMemory, DEFAULT_SEGMENT_SIZE);
+        this.maxSegments = (int) Math.max(1L, maxMemory / segmentSize);
+        this.recordSize = Math.max(recordSize, 0);
+        this.spillDirectory = spillDirectory;
+
+        if (this.recordSize > segmentSize)
+            throw new IllegalArgumentException("recordSize 不能大于 maxMemory");
+    }
+
+    public void append(byte[] record) {
+        append(record, 0, record.length);
+    }
+
+    public void append(byte[] record, int offset, int length) {
+        // reserve 会先写入长度，越界必须在此之前检查，否则会留下没有内容的长度头
+        if (offset < 0 || length < 0 || offset > record.length - length)
+            throw new IndexOutOfBoundsException("offset[" + offset + "]、length[" + length + "]超出数组范围[" + record.length + "]");
+
+        reserve(length).put(record, offset, length);
+        count++;
+    }
+
+    /**
+     * 写入 record 的 [position, limit) 部分，不改变 record 的 position
+     *
+     * @param record
+     */
+    public void append(ByteBuffer record) {
+        reserve(record.remaining()).put(record.duplicate());
+        count++;
+    }
+
+    /**
+     * 记录数
+     *
+     * @return
+     */
+    public long size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * 已溢写到文件的字节数
+     *
+     * @return
+     */
+    public long spilledBytes() {
+        return spilledBytes;
+    }
+
+    /**
+     * 当前在堆外内存中的字节数
+     *
+     * @return
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (int i = 0; i <= current; i++) {
+            bytes += segments.get(i).position();
+        }
+        return bytes;
+    }
+
+    /**
+     * 清空数据，保留已分配的段和溢写文件以便复用
+     */
+    public void clear() {
+        checkOpen();
+
+        for (ByteBuffer segment : segments) {
+            segment.clear();
+        }
+        current = -1;
+        count = 0;
+        modCount++;
+
+        if (null != spillChannel) {
+            try {
+                spillChannel.truncate(0);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        spilledBytes = 0;
+    }
+
+    /**
+     * 删除溢写文件并丢弃所有段
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        closed = true;
+
+        segments.clear();
+        current = -1;
+        count = 0;
+        modCount++;
+
+        try {
+            if (null != spillChannel)
+                spillChannel.close();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            if (null != spillFile && !spillFile.delete())
+                spillFile.deleteOnExit();
+        }
+    }
+
+    /**
+     * 按写入顺序遍历
+     *
+     * @return
+     */
+    @Override
+    public Iterator<ByteBuffer> iterator() {
+        checkOpen();
+        return new RecordIterator();
+    }
+
+    /**
+     * 找到能容纳该记录的段，写好长度后返回
+     */
+    private ByteBuffer reserve(int length) {
+        checkOpen();
+        if (recordSize > 0 && length != recordSize)
+            throw new IllegalArgumentException("记录长度[" + length + "]与 recordSize[" + recordSize + "]不一致");
+
+        int frame = recordSize > 0 ? length : LENGTH_SIZE + length;
+        if (frame > segmentSize)
+            throw new IllegalArgumentException("记录长度[" + length + "]超过段大小[" + segmentSize + "]");
+
+        modCount++;
+        ByteBuffer segment = current < 0 ? null : segments.get(current);
+        if (null == segment || segment.remaining() < frame) {
+            if (current + 1 >= segments.size()) {
+                if (segments.size() < maxSegments) {
+                    segments.add(ByteBuffer.allocateDirect(segmentSize));
+                } else {
+                    spill();
+                }
+            }
+            segment = segments.get(++current);
+        }
+
+        if (recordSize == 0)
+            segment.putInt(length);
+        return segment;
+    }
+
+    /**
+     * 把内存中的段顺序写入溢写文件，之后从第一个段开始复用
+     */
+    private void spill() {
+        try {
+            if (null == spillChannel) {
+                spillFile = File.createTempFile("record-buffer-", ".spill", spillDirectory);
+                spillChannel = new RandomAccessFile(spillFile, "rw").getChannel();
+            }
+
+            for (int i = 0; i <= current; i++) {
+                ByteBuffer segment = segments.get(i);
+                segment.flip();
+                while (segment.hasRemaining()) {
+                    spilledBytes += spillChannel.write(segment, spilledBytes);
+                }
+                segment.clear();
+            }
+            current = -1;
+        } catch (IOException e) {
+            throw new RuntimeException("记录溢写失败：" + spillFile, e);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed)
+            throw new IllegalStateException("RecordBuffer 已关闭");
+    }
+
+    private class RecordIterator implements Iterator<ByteBuffer> {
+        private final int expectedModCount = modCount;
+
+        //region===================================溢写文件===================================================================
+        /**
+         * 下一次从文件读取的位置
+         */
+        private long filePosition = 0;
+        /**
+         * 文件中尚未返回的记录字节数（含已读入 readBuffer 的部分）
+         */
+        private long fileRemaining = spilledBytes;
+        private ByteBuffer readBuffer = null;
+        //endregion================================溢写文件===================================================================
+
+        //region===================================内存===================================================================
+        private int segmentIndex = 0;
+        private int segmentOffset = 0;
+        //endregion================================内存===================================================================
+
+        @Override
+        public boolean hasNext() {
+            checkModCount();
+            if (fileRemaining > 0)
+                return true;
+
+            while (segmentIndex <= current) {
+                if (segmentOffset < segments.get(segmentIndex).position())
+                    return true;
+                segmentIndex++;
+                segmentOffset = 0;
+            }
+            return false;
+        }
+
+        @Override
+        public ByteBuffer next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            if (fileRemaining > 0)
+                return nextFromFile();
+
+            ByteBuffer segment = segments.get(segmentIndex).asReadOnlyBuffer();
+            int length = recordSize;
+            if (recordSize == 0) {
+                length = segment.getInt(segmentOffset);
+                segmentOffset += LENGTH_SIZE;
+            }
+            segment.limit(segmentOffset + length).position(segmentOffset);
+            segmentOffset += length;
+            return segment.slice();
+        }
+
+        private ByteBuffer nextFromFile() {
+            int length = recordSize;
+            if (recordSize == 0) {
+                fill(LENGTH_SIZE);
+                length = readBuffer.getInt();
+                fileRemaining -= LENGTH_SIZE;
+            }
+            fill(length);
+
+            ByteBuffer record = readBuffer.slice();
+            record.limit(length);
+            readBuffer.position(readBuffer.position() + length);
+            fileRemaining -= length;
+            return record.asReadOnlyBuffer();
+        }
+
+        /**
+         * 保证 readBuffer 中至少有 n 个未读字节
+         */
+        private void fill(int n) {
+            if (null == readBuffer) {
+                readBuffer = ByteBuffer.allocate(Math.max(n, Math.min(segmentSize, 1024 * 1024)));
+                readBuffer.flip();
+            }
+            if (readBuffer.remaining() >= n)
+                return;
+
+            if (readBuffer.capacity() < n) {
+                ByteBuffer larger = ByteBuffer.allocate(n);
+                larger.put(readBuffer);
+                readBuffer = larger;
+            } else {
+                readBuffer.compact();
+            }
+
+            try {
+                while (readBuffer.position() < n) {
+                    int read = spillChannel.read(readBuffer, filePosition);
+                    if (read < 0)
+                        throw new IllegalStateException("溢写文件不完整：" + spillFile);
+                    filePosition += read;
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("读取溢写文件失败：" + spillFile, e);
+            }
+            readBuffer.flip();
+        }
+
+        private void checkModCount() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+}
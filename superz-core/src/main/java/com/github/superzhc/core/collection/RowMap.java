@@ -0,0 +1,436 @@
+package com.github.superzhc.core.collection;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * 固定结构的行数据 Map
+ * <p>
+ * 同一批数据的所有行共用一个不可变的 {@link Schema}（key 及其下标），每行只保存一个 Object[] 值数组，
+ * 省去 LinkedHashMap 每个 key 的 Entry 对象和哈希表，百万行的结果集内存占用约为原来的几分之一。
+ * <ul>
+ *     <li>遍历顺序为 Schema 中 key 的顺序，之后是新增的 key（按写入顺序）</li>
+ *     <li>支持 Map 的全部操作；写入 Schema 外的 key 时，该行额外创建一个 LinkedHashMap 保存</li>
+ *     <li>删除后重新写入的 key 仍位于 Schema 中的原位置，这一点与 LinkedHashMap 不同</li>
+ *     <li>非线程安全</li>
+ *     <li>可序列化，同一个流中的多行反序列化后仍共用一个 Schema</li>
+ * </ul>
+ *
+ * @author superz
+ * @create 2026/10/18 21:05
+ **/
+public class RowMap extends AbstractMap<String, Object> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 标记已删除（或未写入）的 key，与 null 值区分
+     */
+    private static final Object ABSENT = new Object();
+
+    private final Schema schema;
+    /**
+     * ABSENT 不可序列化，由 writeObject/readObject 处理
+     */
+    private transient Object[] values;
+    /**
+     * Schema 中存在的 key 数
+     */
+    private int present;
+    /**
+     * Schema 外的 key，延迟创建
+     */
+    private Map<String, Object> extra = null;
+    private transient Set<Map.Entry<String, Object>> entrySet = null;
+
+    /**
+     * 创建空行，所有 key 均不存在
+     *
+     * @param schema
+     */
+    public RowMap(Schema schema) {
+        this.schema = schema;
+        this.values = new Object[schema.size()];
+        Arrays.fill(values, ABSENT);
+        this.present = 0;
+    }
+
+    private RowMap(Schema schema, Object[] values) {
+        this.schema = schema;
+        this.values = values;
+        this.present = values.length;
+    }
+
+    /**
+     * 直接使用传入的数组作为行数据（不复制），数组下标与 Schema 中 key 的下标一一对应
+     *
+     * @param schema
+     * @param values
+     * @return
+     */
+    public static RowMap of(Schema schema, Object... values) {
+        if (values.length != schema.size())
+            throw new IllegalArgumentException("值的个数[" + values.length + "]与 key 的个数[" + schema.size() + "]不一致");
+
+        return new RowMap(schema, values);
+    }
+
+    public Schema schema() {
+        return schema;
+    }
+
+    /**
+     * 按下标取值，key 不存在时返回 null
+     *
+     * @param index Schema 中 key 的下标
+     * @return
+     */
+    public Object get(int index) {
+        Object value = values[index];
+        return value == ABSENT ? null : value;
+    }
+
+    /**
+     * 按下标写值
+     *
+     * @param index Schema 中 key 的下标
+     * @param value
+     * @return 原值
+     */
+    public Object set(int index, Object value) {
+        Object old = values[index];
+        values[index] = value;
+        if (old == ABSENT) {
+            present++;
+            return null;
+        }
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return present + (null == extra ? 0 : extra.size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int index = schema.indexOf(key);
+        if (index >= 0)
+            return values[index] != ABSENT;
+        return null != extra && extra.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (Object v : values) {
+            if (v != ABSENT && Objects.equals(v, value))
+                return true;
+        }
+        return null != extra && extra.containsValue(value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = schema.indexOf(key);
+        if (index >= 0)
+            return get(index);
+        return null == extra ? null : extra.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int index = schema.indexOf(key);
+        if (index >= 0)
+            return set(index, value);
+
+        if (null == extra)
+            extra = new LinkedHashMap<>();
+        return extra.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int index = schema.indexOf(key);
+        if (index >= 0) {
+            Object old = values[index];
+            if (old == ABSENT)
+                return null;
+            values[index] = ABSENT;
+            present--;
+            return old;
+        }
+        return null == extra ? null : extra.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, ABSENT);
+        present = 0;
+        extra = null;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        Set<Map.Entry<String, Object>> es = entrySet;
+        if (null == es) {
+            es = new AbstractSet<Map.Entry<String, Object>>() {
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return RowMap.this.size();
+                }
+
+                @Override
+                public void clear() {
+                    RowMap.this.clear();
+                }
+            };
+            entrySet = es;
+        }
+        return es;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != ABSENT)
+                h += schema.key(i).hashCode() ^ Objects.hashCode(value);
+        }
+        return null == extra ? h : h + extra.hashCode();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        // 每个下标先写一个是否存在的标记，不存在的 key 不写值
+        for (Object value : values) {
+            out.writeBoolean(value != ABSENT);
+            if (value != ABSENT)
+                out.writeObject(value);
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        values = new Object[schema.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readBoolean() ? in.readObject() : ABSENT;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+        /**
+         * 下一个存在的 key 的下标
+         */
+        private int next = advance(0);
+        /**
+         * 上一次返回的 Schema 中的下标，-1 表示不可删除
+         */
+        private int last = -1;
+        /**
+         * 上一次返回的是否为 Schema 外的 key；hasNext 会提前创建 extraIterator，不能据此判断
+         */
+        private boolean lastExtra = false;
+        private Iterator<Map.Entry<String, Object>> extraIterator = null;
+
+        private int advance(int from) {
+            while (from < values.length && values[from] == ABSENT) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next < values.length)
+                return true;
+            if (null == extraIterator) {
+                if (null == extra)
+                    return false;
+                extraIterator = extra.entrySet().iterator();
+            }
+            return extraIterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (next < values.length) {
+                last = next;
+                lastExtra = false;
+                next = advance(next + 1);
+                return new Entry(last);
+            }
+            if (!hasNext())
+                throw new NoSuchElementException();
+            Map.Entry<String, Object> entry = extraIterator.next();
+            last = -1;
+            lastExtra = true;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastExtra) {
+                extraIterator.remove();
+                lastExtra = false;
+                return;
+            }
+            if (last < 0)
+                throw new IllegalStateException();
+            values[last] = ABSENT;
+            present--;
+            last = -1;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String, Object> {
+        private final int index;
+
+        Entry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return schema.key(index);
+        }
+
+        @Override
+        public Object getValue() {
+            return RowMap.this.get(index);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return RowMap.this.set(index, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry))
+                return false;
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return getKey().equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    /**
+     * 行结构：不可变的 key 列表及 key 到下标的索引，线程安全，可在任意多行间共用
+     */
+    public static final class Schema implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String[] keys;
+        /**
+         * 开放寻址的哈希表，保存下标 + 1，0 表示空槽；不序列化，反序列化时由 keys 重建
+         */
+        private final transient int[] table;
+        private final transient int mask;
+
+        private Schema(String[] keys) {
+            int capacity = Integer.highestOneBit(Math.max(2, keys.length * 2 - 1)) << 1;
+            this.table = new int[capacity];
+            this.mask = capacity - 1;
+
+            // 重复的 key 只保留第一个
+            int size = 0;
+            String[] distinct = new String[keys.length];
+            for (String key : keys) {
+                if (null == key)
+                    throw new IllegalArgumentException("key 不能为 null");
+                if (indexOf(distinct, key) >= 0)
+                    continue;
+
+                int slot = spread(key.hashCode()) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                distinct[size] = key;
+                table[slot] = ++size;
+            }
+            this.keys = size == keys.length ? distinct : Arrays.copyOf(distinct, size);
+        }
+
+        public static Schema of(String... keys) {
+            return new Schema(keys.clone());
+        }
+
+        public static Schema of(Collection<String> keys) {
+            return new Schema(keys.toArray(new String[0]));
+        }
+
+        public int size() {
+            return keys.length;
+        }
+
+        public String key(int index) {
+            return keys[index];
+        }
+
+        public List<String> keys() {
+            return Collections.unmodifiableList(Arrays.asList(keys));
+        }
+
+        /**
+         * key 的下标，不存在时返回 -1
+         *
+         * @param key
+         * @return
+         */
+        public int indexOf(Object key) {
+            return null == key ? -1 : indexOf(keys, key);
+        }
+
+        private int indexOf(String[] keys, Object key) {
+            int slot = spread(key.hashCode()) & mask;
+            int i;
+            while ((i = table[slot]) != 0) {
+                String k = keys[i - 1];
+                // 同一批数据的 key 通常是同一个 String 对象，先比较引用
+                if (k == key || k.equals(key))
+                    return i - 1;
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * 创建空行
+         *
+         * @return
+         */
+        public RowMap newRow() {
+            return new RowMap(this);
+        }
+
+        private Object readResolve() {
+            return new Schema(keys);
+        }
+
+        private static int spread(int h) {
+            return h ^ (h >>> 16);
+        }
+    }
+}
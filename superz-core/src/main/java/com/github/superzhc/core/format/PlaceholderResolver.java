@@ -1,5 +1,7 @@
 package com.github.superzhc.core.format;
 
+import com.github.superzhc.core.cache.Cache;
+
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -29,6 +31,11 @@ public class PlaceholderResolver {
      */
     public static final String DEFAULT_PLACEHOLDER_SUFFIX = "}";
 
+    /**
+     * 2026年10月18日 按格式缓存 DateTimeFormatter（线程安全），避免每次替换都重新解析格式
+     */
+    private static final Cache<String, DateTimeFormatter> formatters = Cache.newBuilder().maximumSize(256).build();
+
     /**
      * 默认单例解析器
      */
@@ -245,13 +252,13 @@ public class PlaceholderResolver {
                     SimpleDateFormat sdf = new SimpleDateFormat(ss[1]);
                     return sdf.format(originalValue);
                 } else if (originalValue instanceof LocalDate) {
-                    DateTimeFormatter dtf = DateTimeFormatter.ofPattern(ss[1]);
+                    DateTimeFormatter dtf = formatters.get(ss[1], DateTimeFormatter::ofPattern);
                     return ((LocalDate) originalValue).format(dtf);
                 } else if (originalValue instanceof LocalTime) {
-                    DateTimeFormatter dtf = DateTimeFormatter.ofPattern(ss[1]);
+                    DateTimeFormatter dtf = formatters.get(ss[1], DateTimeFormatter::ofPattern);
                     return ((LocalTime) originalValue).format(dtf);
                 } else if (originalValue instanceof LocalDateTime) {
-                    DateTimeFormatter dtf = DateTimeFormatter.ofPattern(ss[1]);
+                    DateTimeFormatter dtf = formatters.get(ss[1], DateTimeFormatter::ofPattern);
                     return ((LocalDateTime) originalValue).format(dtf);
                 }
                 /* 2021年8月23日 add 新增时间戳判定 */
@@ -270,7 +277,7 @@ public class PlaceholderResolver {
                     } else {
                         ldt = LocalDateTime.ofEpochSecond(originalValue2 / 1000, 0, ZoneOffset.ofHours(8));
                     }
-                    DateTimeFormatter dtf = DateTimeFormatter.ofPattern(ss[1]);
+                    DateTimeFormatter dtf = formatters.get(ss[1], DateTimeFormatter::ofPattern);
                     return ldt.format(dtf);
                 }
             }
@@ -0,0 +1,301 @@
+package com.github.superzhc.core.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CacheTest {
+
+    @Test
+    public void testMaximumSize() {
+        Cache<Integer, String> cache = Cache.newBuilder().maximumSize(100).build();
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, String.valueOf(i));
+        }
+        Assert.assertEquals(100, cache.size());
+        Assert.assertEquals(100, cache.weightedSize());
+        Assert.assertEquals(900, cache.stats().evictionCount());
+
+        cache.invalidateAll();
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0, cache.weightedSize());
+    }
+
+    @Test
+    public void testMaximumWeight() {
+        Cache<Integer, String> cache = Cache.newBuilder().maximumWeight(1000).weigher((Integer k, String v) -> v.length()).build();
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, repeat('x', 1 + i % 20));
+            Assert.assertTrue(cache.weightedSize() <= 1000);
+        }
+        Assert.assertTrue(cache.size() < 1000);
+
+        // 原地更新后重新计算权重
+        Cache<Integer, String> small = Cache.newBuilder().maximumWeight(1000).weigher((Integer k, String v) -> v.length()).build();
+        small.put(1, repeat('y', 10));
+        small.put(2, repeat('y', 20));
+        Assert.assertEquals(30, small.weightedSize());
+        small.put(1, repeat('y', 5));
+        Assert.assertEquals(25, small.weightedSize());
+        Assert.assertEquals(2, small.size());
+
+        try {
+            cache.put(-2, null);
+            Assert.fail();
+        } catch (NullPointerException e) {
+            // 不缓存 null
+        }
+    }
+
+    @Test
+    public void testExpireAfterWrite() throws InterruptedException {
+        Cache<String, String> cache = Cache.newBuilder().maximumSize(100).expireAfterWrite(100, TimeUnit.MILLISECONDS).build();
+        cache.put("a", "1");
+        cache.put("b", "2");
+        Assert.assertEquals("1", cache.get("a"));
+
+        Thread.sleep(150);
+        // 读取不延长写入后过期的时间
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(1, cache.stats().expiredCount());
+        Assert.assertEquals(1, cache.size());
+        cache.cleanUp();
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(2, cache.stats().expiredCount());
+
+        // 过期后重新加载
+        Assert.assertEquals("A", cache.get("a", String::toUpperCase));
+        Assert.assertEquals(1, cache.stats().loadCount());
+    }
+
+    @Test
+    public void testExpireAfterAccess() throws InterruptedException {
+        Cache<String, String> cache = Cache.newBuilder().maximumSize(100).expireAfterAccess(200, TimeUnit.MILLISECONDS).build();
+        cache.put("a", "1");
+        cache.put("b", "2");
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(50);
+            Assert.assertEquals("1", cache.get("a"));
+        }
+        // b 一直未被访问
+        Assert.assertNull(cache.get("b"));
+
+        Thread.sleep(250);
+        Assert.assertNull(cache.get("a"));
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testExpireRaceWithPut() throws Exception {
+        // 写入 fresh 时 weigher 在分段锁内阻塞，读线程锁外判定旧值过期后在锁上等待，put 完成后才进入 expire
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Cache<String, String> cache = Cache.newBuilder().maximumWeight(100).concurrencyLevel(1)
+                .expireAfterWrite(50, TimeUnit.MILLISECONDS)
+                .weigher((String k, String v) -> {
+                    if ("fresh".equals(v)) {
+                        locked.countDown();
+                        try {
+                            release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                    return 1;
+                })
+                .build();
+        cache.put("a", "stale");
+        Thread.sleep(100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> cache.put("a", "fresh"));
+            Assert.assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+            Thread[] reader = new Thread[1];
+            Future<String> read = executor.submit(() -> {
+                reader[0] = Thread.currentThread();
+                return cache.get("a");
+            });
+            // 等待读线程阻塞在分段锁上
+            long deadline = System.currentTimeMillis() + 5000;
+            while ((null == reader[0] || reader[0].getState() != Thread.State.WAITING) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            writer.get(5, TimeUnit.SECONDS);
+
+            Assert.assertEquals("fresh", read.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals("fresh", cache.get("a"));
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(0, cache.stats().expiredCount());
+    }
+
+    @Test
+    public void testLoadOnce() throws Exception {
+        Cache<String, String> cache = Cache.newBuilder().maximumSize(100).build();
+        AtomicInteger loads = new AtomicInteger();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("key", key -> {
+                        loads.incrementAndGet();
+                        sleep(100);
+                        return "value";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                Assert.assertEquals("value", future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(1, loads.get());
+        CacheStats stats = cache.stats();
+        Assert.assertEquals(1, stats.loadCount());
+        Assert.assertEquals(threads, stats.requestCount());
+    }
+
+    @Test
+    public void testLoaderOutsideLock() throws Exception {
+        // 只有一个分段：若 loader 在分段锁内执行，第二个线程无法进入 loader，两个 loader 都会在 barrier 处超时
+        Cache<String, String> cache = Cache.newBuilder().maximumSize(10).concurrencyLevel(1).build();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (String key : new String[]{"a", "b"}) {
+                futures.add(executor.submit(() -> cache.get(key, k -> {
+                    try {
+                        barrier.await(5, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                    // loader 中可以读写其他 key
+                    return k + cache.get(k + k, String::toUpperCase);
+                })));
+            }
+            Assert.assertEquals("aAA", futures.get(0).get(10, TimeUnit.SECONDS));
+            Assert.assertEquals("bBB", futures.get(1).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(4, cache.size());
+
+        try {
+            cache.get("c", k -> cache.get("c", String::toUpperCase));
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // 递归加载同一个 key
+        }
+        Assert.assertNull(cache.get("c"));
+    }
+
+    @Test
+    public void testStats() {
+        Cache<String, String> cache = Cache.newBuilder().maximumSize(100).build();
+        Assert.assertEquals(1.0, cache.stats().hitRate(), 0.0);
+        Assert.assertEquals(0.0, cache.stats().averageLoadPenalty(), 0.0);
+
+        cache.put("a", "1");
+        cache.get("a");
+        cache.get("a", k -> "unused");
+        cache.get("b");
+        Assert.assertEquals("B", cache.get("b", String::toUpperCase));
+        Assert.assertEquals("B", cache.get("b"));
+        // 返回 null 不缓存
+        Assert.assertNull(cache.get("c", k -> null));
+        Assert.assertNull(cache.get("c", k -> null));
+        try {
+            cache.get("d", k -> {
+                throw new IllegalArgumentException(k);
+            });
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("d", e.getMessage());
+        }
+        Assert.assertNull(cache.get("d"));
+
+        CacheStats stats = cache.stats();
+        Assert.assertEquals(3, stats.hitCount());
+        Assert.assertEquals(6, stats.missCount());
+        Assert.assertEquals(9, stats.requestCount());
+        Assert.assertEquals(3.0 / 9, stats.hitRate(), 1e-9);
+        Assert.assertEquals(4, stats.loadCount());
+        Assert.assertEquals(1, stats.loadFailureCount());
+        Assert.assertTrue(stats.averageLoadPenalty() > 0);
+        Assert.assertEquals(0, stats.evictionCount());
+
+        Assert.assertEquals("B", cache.invalidate("b"));
+        Assert.assertNull(cache.invalidate("b"));
+    }
+
+    @Test
+    public void testScanResistance() {
+        Cache<String, String> cache = Cache.newBuilder().maximumSize(1000).build();
+        List<String> hot = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            hot.add("hot-" + i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (String key : hot) {
+                cache.get(key, String::toUpperCase);
+            }
+        }
+
+        // 大量只访问一次的 key 与热点数据交替访问：同一热点 key 两次访问之间有 2000 个扫描的 key，
+        // 超过缓存容量，纯 LRU 下热点数据每次都已被冲掉
+        AtomicInteger hotLoads = new AtomicInteger();
+        int hotRequests = 0;
+        for (int i = 0; i < 20000; i++) {
+            cache.get("scan-" + i, String::toUpperCase);
+            if (i % 4 == 0) {
+                hotRequests++;
+                cache.get(hot.get(i / 4 % hot.size()), key -> {
+                    hotLoads.incrementAndGet();
+                    return key.toUpperCase();
+                });
+            }
+        }
+
+        double hotHitRate = 1.0 - (double) hotLoads.get() / hotRequests;
+        Assert.assertTrue("hot hit rate " + hotHitRate, hotHitRate > 0.9);
+        Assert.assertEquals(1000, cache.size());
+    }
+
+    private static String repeat(char c, int n) {
+        StringBuilder sb = new StringBuilder(n);
+        for (int i = 0; i < n; i++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.github.superzhc.core.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FrequencySketchTest {
+
+    @Test
+    public void testIncrement() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        int hash = 0x12345678;
+        Assert.assertEquals(0, sketch.frequency(hash));
+        for (int i = 1; i <= 5; i++) {
+            sketch.increment(hash);
+            Assert.assertEquals(i, sketch.frequency(hash));
+        }
+
+        // 计数上限为 15
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(hash);
+        }
+        Assert.assertEquals(15, sketch.frequency(hash));
+    }
+
+    @Test
+    public void testReset() {
+        // 样本数为 160：累计增加 160 次后所有计数减半
+        FrequencySketch sketch = new FrequencySketch(16);
+        int hot = 0x9E3779B9;
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(hot);
+        }
+        Assert.assertEquals(15, sketch.frequency(hot));
+
+        int i = 0;
+        while (sketch.frequency(hot) == 15 && i < 1000) {
+            sketch.increment(i++ * 0x61C88647);
+        }
+        Assert.assertTrue(i < 1000);
+        Assert.assertEquals(7, sketch.frequency(hot));
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.superzhc.core.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DoubleListTest {
+
+    @Test
+    public void testGrowth() {
+        DoubleList lst = new DoubleList(0);
+        for (int i = 0; i < 1000; i++) {
+            lst.add(i / 2.0);
+        }
+        Assert.assertEquals(1000, lst.size());
+        Assert.assertEquals(499.5, lst.get(999), 0.0);
+
+        lst.add(500, -1.0);
+        Assert.assertEquals(-1.0, lst.get(500), 0.0);
+        Assert.assertEquals(250.0, lst.get(501), 0.0);
+        Assert.assertEquals(-1.0, lst.removeAt(500), 0.0);
+        Assert.assertEquals(1000, lst.size());
+
+        try {
+            lst.get(1000);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // 越界
+        }
+        try {
+            lst.removeAt(-1);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // 越界
+        }
+    }
+
+    @Test
+    public void testBitwiseEquality() {
+        // 与 equals 一致按位比较：NaN 可以找到，0.0 与 -0.0 不同
+        DoubleList lst = DoubleList.of(0.0, Double.NaN, 1.5);
+        Assert.assertEquals(1, lst.indexOf(Double.NaN));
+        Assert.assertEquals(-1, lst.indexOf(-0.0));
+        Assert.assertTrue(lst.contains(1.5));
+
+        Assert.assertEquals(DoubleList.of(0.0, Double.NaN, 1.5), lst);
+        Assert.assertEquals(DoubleList.of(0.0, Double.NaN, 1.5).hashCode(), lst.hashCode());
+        Assert.assertNotEquals(DoubleList.of(-0.0, Double.NaN, 1.5), lst);
+
+        lst.set(1, -2.0);
+        lst.sort();
+        Assert.assertArrayEquals(new double[]{-2.0, 0.0, 1.5}, lst.toArray(), 0.0);
+        Assert.assertEquals(-0.5, lst.stream().sum(), 0.0);
+        Assert.assertEquals("[-2.0, 0.0, 1.5]", lst.toString());
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.superzhc.core.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntListTest {
+
+    @Test
+    public void testGrowth() {
+        // 容量为 0 时首次添加扩容
+        IntList lst = new IntList(0);
+        for (int i = 0; i < 1000; i++) {
+            lst.add(i - 500);
+        }
+        Assert.assertEquals(1000, lst.size());
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(i - 500, lst.get(i));
+        }
+
+        lst.add(0, Integer.MIN_VALUE);
+        lst.add(lst.size(), Integer.MAX_VALUE);
+        Assert.assertEquals(1002, lst.size());
+        Assert.assertEquals(Integer.MIN_VALUE, lst.get(0));
+        Assert.assertEquals(-500, lst.get(1));
+        Assert.assertEquals(Integer.MAX_VALUE, lst.get(1001));
+
+        // 追加自身
+        IntList self = IntList.of(1, 2, 3);
+        self.addAll(self);
+        Assert.assertEquals(IntList.of(1, 2, 3, 1, 2, 3), self);
+        self.trimToSize();
+        self.add(4);
+        Assert.assertArrayEquals(new int[]{1, 2, 3, 1, 2, 3, 4}, self.toArray());
+
+        try {
+            new IntList(-1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // 容量不能为负
+        }
+    }
+
+    @Test
+    public void testBounds() {
+        IntList lst = IntList.of(5, 6);
+        int[] invalid = {-1, 2};
+        for (int index : invalid) {
+            try {
+                lst.get(index);
+                Assert.fail();
+            } catch (IndexOutOfBoundsException e) {
+                // 越界
+            }
+            try {
+                lst.set(index, 0);
+                Assert.fail();
+            } catch (IndexOutOfBoundsException e) {
+                // 越界
+            }
+            try {
+                lst.removeAt(index);
+                Assert.fail();
+            } catch (IndexOutOfBoundsException e) {
+                // 越界
+            }
+        }
+        try {
+            lst.add(3, 0);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // 只能插入到 [0, size]
+        }
+
+        // clear 后原有的下标不可访问
+        lst.clear();
+        try {
+            lst.get(0);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // 越界
+        }
+        Assert.assertTrue(lst.isEmpty());
+    }
+
+    @Test
+    public void testOperations() {
+        IntList lst = IntList.of(3, -1, 2, -1);
+        Assert.assertEquals(3, lst.set(0, 0));
+        Assert.assertEquals(1, lst.indexOf(-1));
+        Assert.assertTrue(lst.contains(2));
+        Assert.assertFalse(lst.contains(3));
+        Assert.assertEquals(-1, lst.removeAt(1));
+        Assert.assertEquals(IntList.of(0, 2, -1), lst);
+
+        lst.sort();
+        Assert.assertEquals("[-1, 0, 2]", lst.toString());
+        Assert.assertEquals(1, lst.stream().sum());
+        int[] sum = {0};
+        lst.forEach(v -> sum[0] += v);
+        Assert.assertEquals(1, sum[0]);
+
+        // equals 只比较有效元素，与容量无关
+        IntList other = new IntList(100);
+        other.addAll(-1, 0, 2);
+        Assert.assertEquals(lst, other);
+        Assert.assertEquals(lst.hashCode(), other.hashCode());
+        Assert.assertNotEquals(lst, IntList.of(-1, 0));
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.superzhc.core.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class ListHelperTest {
+
+    @Test
+    public void testConvert() {
+        List<Integer> lst = Arrays.asList(3, null, 1, 2);
+        List<String> result = ListHelper.convert(lst, i -> null == i ? null : "v" + i);
+        Assert.assertEquals(Arrays.asList("v3", null, "v1", "v2"), result);
+        // 结果可修改
+        result.add("v4");
+
+        Assert.assertNull(ListHelper.convert(null, String::valueOf));
+        Assert.assertNull(ListHelper.convert(null, String::valueOf, true));
+        Assert.assertEquals(Collections.emptyList(), ListHelper.convert(new ArrayList<Integer>(), String::valueOf, true));
+    }
+
+    @Test
+    public void testConvertParallel() {
+        List<Integer> lst = new LinkedList<>();
+        for (int i = 0; i < 10000; i++) {
+            lst.add(i % 100 == 0 ? null : i);
+        }
+        List<String> expected = ListHelper.convert(lst, String::valueOf);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Set<String> threads = ConcurrentHashMap.newKeySet();
+            List<String> result = ListHelper.convert(lst, i -> {
+                threads.add(Thread.currentThread().getName());
+                return String.valueOf(i);
+            }, pool, 1000);
+            // 顺序与顺序转换一致，null 元素原样传给 function
+            Assert.assertEquals(expected, result);
+            Assert.assertEquals("null", result.get(0));
+            result.add("x");
+            // 在指定的线程池中执行
+            for (String thread : threads) {
+                Assert.assertTrue(thread, thread.contains("ForkJoinPool-"));
+            }
+
+            // 小于阈值时在调用线程中顺序转换
+            String caller = Thread.currentThread().getName();
+            List<String> small = ListHelper.convert(lst.subList(0, 10), i -> Thread.currentThread().getName(), pool, 1000);
+            Assert.assertEquals(Collections.nCopies(10, caller), small);
+        } finally {
+            pool.shutdown();
+        }
+
+        // 公共线程池
+        Assert.assertEquals(expected, ListHelper.convert(lst, String::valueOf, true));
+    }
+
+    @Test
+    public void testForEachRange() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int size : new int[]{0, 1, 255, 256, 257, 5000, 100000}) {
+                AtomicIntegerArray counts = new AtomicIntegerArray(size);
+                List<int[]> ranges = Collections.synchronizedList(new ArrayList<>());
+                ListHelper.forEachRange(size, pool, (from, to) -> {
+                    ranges.add(new int[]{from, to});
+                    for (int i = from; i < to; i++) {
+                        counts.incrementAndGet(i);
+                    }
+                });
+                // 每个下标恰好处理一次
+                for (int i = 0; i < size; i++) {
+                    Assert.assertEquals(1, counts.get(i));
+                }
+                // 超过 256 个元素才二分，范围不小于 128
+                for (int[] range : ranges) {
+                    Assert.assertTrue(range[0] <= range[1]);
+                    Assert.assertTrue(size < 256 || range[1] - range[0] >= 128);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testPartition() {
+        List<Integer> lst = Arrays.asList(1, 2, 3, 4, 5, null, 7);
+        List<List<Integer>> parts = ListHelper.partition(lst, 3);
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, null), Collections.singletonList(7)), parts);
+        Assert.assertEquals(Collections.singletonList(lst), ListHelper.partition(lst, 7));
+        Assert.assertEquals(7, ListHelper.partition(lst, 1).size());
+        Assert.assertEquals(Collections.emptyList(), ListHelper.partition(new ArrayList<Integer>(), 3));
+
+        // 子列表为原列表的视图
+        List<Integer> source = new ArrayList<>(lst);
+        ListHelper.partition(source, 3).get(1).set(2, 6);
+        Assert.assertEquals(Integer.valueOf(6), source.get(5));
+
+        try {
+            ListHelper.partition(lst, 0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // size 必须大于 0
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.superzhc.core.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class LongHashSetTest {
+
+    @Test
+    public void testZeroAndNegative() {
+        LongHashSet set = new LongHashSet();
+        Assert.assertFalse(set.contains(0L));
+        Assert.assertTrue(set.add(0L));
+        Assert.assertFalse(set.add(0L));
+        Assert.assertTrue(set.add(-1L));
+        Assert.assertTrue(set.add(Long.MIN_VALUE));
+        Assert.assertTrue(set.add(Long.MAX_VALUE));
+        Assert.assertEquals(4, set.size());
+        Assert.assertTrue(set.contains(0L));
+        Assert.assertTrue(set.contains(Long.MIN_VALUE));
+
+        long[] arr = set.toArray();
+        Arrays.sort(arr);
+        Assert.assertArrayEquals(new long[]{Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE}, arr);
+
+        Assert.assertTrue(set.remove(0L));
+        Assert.assertFalse(set.remove(0L));
+        Assert.assertFalse(set.contains(0L));
+        Assert.assertEquals(3, set.size());
+
+        set.clear();
+        Assert.assertTrue(set.isEmpty());
+        Assert.assertFalse(set.contains(-1L));
+    }
+
+    @Test
+    public void testRemoveWrapAround() {
+        // 默认容量为 32：找出理想位置为最后两个槽位的 key，探测链会绕回表头
+        long[] tail = keysAtSlot(31, 3);
+        long[] beforeTail = keysAtSlot(30, 2);
+        LongHashSet set = new LongHashSet();
+        // 槽位 30、31、0、1、2 依次为 beforeTail[0]、tail[0]、tail[1]、tail[2]、beforeTail[1]
+        set.add(beforeTail[0]);
+        for (long key : tail) {
+            set.add(key);
+        }
+        set.add(beforeTail[1]);
+
+        // 删除链头后，绕回表头的元素需前移，否则查找时提前遇到空槽
+        Assert.assertTrue(set.remove(beforeTail[0]));
+        for (long key : tail) {
+            Assert.assertTrue(set.contains(key));
+        }
+        Assert.assertTrue(set.contains(beforeTail[1]));
+
+        Assert.assertTrue(set.remove(tail[1]));
+        Assert.assertTrue(set.contains(tail[0]));
+        Assert.assertTrue(set.contains(tail[2]));
+        Assert.assertTrue(set.contains(beforeTail[1]));
+        Assert.assertFalse(set.contains(tail[1]));
+        Assert.assertEquals(3, set.size());
+    }
+
+    @Test
+    public void testRehash() {
+        // 与 HashSet 对比，包含扩容以及大量删除
+        LongHashSet set = new LongHashSet(4);
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 200000; i++) {
+            long key = random.nextInt(50000) - 25000L;
+            if (random.nextInt(3) == 0) {
+                Assert.assertEquals(expected.remove(key), set.remove(key));
+            } else {
+                Assert.assertEquals(expected.add(key), set.add(key));
+            }
+        }
+        Assert.assertEquals(expected.size(), set.size());
+        for (long key = -25000; key < 25000; key++) {
+            Assert.assertEquals(expected.contains(key), set.contains(key));
+        }
+
+        long[] sum = {0L};
+        set.forEach(key -> sum[0] += key);
+        Assert.assertEquals(expected.stream().mapToLong(Long::longValue).sum(), sum[0]);
+    }
+
+    @Test
+    public void testTableSize() {
+        Assert.assertEquals(32, LongHashSet.tableSize(16));
+        Assert.assertEquals(2, LongHashSet.tableSize(0));
+        try {
+            LongHashSet.tableSize(Integer.MAX_VALUE);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // 元素个数过多
+        }
+    }
+
+    /**
+     * 容量为 32 时理想位置为 slot 的 key
+     */
+    static long[] keysAtSlot(int slot, int count) {
+        long[] keys = new long[count];
+        int n = 0;
+        for (long key = 1; n < count; key++) {
+            if ((LongHashSet.hash(key) & 31) == slot)
+                keys[n++] = key;
+        }
+        return keys;
+    }
+}
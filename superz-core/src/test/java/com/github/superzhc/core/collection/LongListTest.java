@@ -0,0 +1,72 @@
+package com.github.superzhc.core.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongListTest {
+
+    @Test
+    public void testGrowth() {
+        LongList lst = new LongList(0);
+        for (long i = 0; i < 1000; i++) {
+            lst.add(i << 33);
+        }
+        Assert.assertEquals(1000, lst.size());
+        Assert.assertEquals(999L << 33, lst.get(999));
+
+        lst.add(0, Long.MIN_VALUE);
+        Assert.assertEquals(Long.MIN_VALUE, lst.get(0));
+        Assert.assertEquals(0L, lst.get(1));
+        Assert.assertEquals(Long.MIN_VALUE, lst.removeAt(0));
+
+        LongList other = LongList.of(-1L, 1L);
+        lst.addAll(other);
+        Assert.assertEquals(1002, lst.size());
+        Assert.assertEquals(1000, lst.indexOf(-1L));
+        Assert.assertEquals(-1, lst.indexOf(2L));
+
+        lst.ensureCapacity(5000);
+        lst.trimToSize();
+        Assert.assertEquals(1002, lst.toArray().length);
+    }
+
+    @Test
+    public void testBounds() {
+        LongList lst = LongList.of(1L);
+        try {
+            lst.get(1);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // 越界
+        }
+        try {
+            lst.set(-1, 0L);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // 越界
+        }
+        try {
+            lst.add(-1, 0L);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // 越界
+        }
+        try {
+            new LongList(-1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // 容量不能为负
+        }
+    }
+
+    @Test
+    public void testOperations() {
+        LongList lst = LongList.of(Long.MAX_VALUE, -3L, 0L);
+        lst.sort();
+        Assert.assertArrayEquals(new long[]{-3L, 0L, Long.MAX_VALUE}, lst.toArray());
+        Assert.assertEquals("[-3, 0, " + Long.MAX_VALUE + "]", lst.toString());
+        Assert.assertEquals(LongList.of(-3L, 0L, Long.MAX_VALUE), lst);
+        Assert.assertEquals(LongList.of(-3L, 0L, Long.MAX_VALUE).hashCode(), lst.hashCode());
+        Assert.assertEquals(3, lst.stream().count());
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.superzhc.core.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class LongObjectMapTest {
+
+    @Test
+    public void testZeroAndNegative() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        Assert.assertNull(map.put(0L, "zero"));
+        Assert.assertNull(map.put(-1L, "minus"));
+        Assert.assertNull(map.put(Long.MIN_VALUE, "min"));
+        Assert.assertEquals("zero", map.put(0L, "zero2"));
+        Assert.assertEquals(3, map.size());
+        Assert.assertEquals("zero2", map.get(0L));
+        Assert.assertEquals("min", map.get(Long.MIN_VALUE));
+        Assert.assertEquals("x", map.getOrDefault(1L, "x"));
+
+        long[] keys = map.keys();
+        Arrays.sort(keys);
+        Assert.assertArrayEquals(new long[]{Long.MIN_VALUE, -1L, 0L}, keys);
+
+        Assert.assertEquals("zero2", map.remove(0L));
+        Assert.assertFalse(map.containsKey(0L));
+        Assert.assertEquals("x", map.getOrDefault(0L, "x"));
+        Assert.assertEquals(2, map.size());
+
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertNull(map.get(-1L));
+    }
+
+    @Test
+    public void testNullValue() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1L, null);
+        map.put(0L, null);
+        Assert.assertTrue(map.containsKey(1L));
+        Assert.assertTrue(map.containsKey(0L));
+        Assert.assertNull(map.get(1L));
+        // 已存储的 null 优先于默认值
+        Assert.assertNull(map.getOrDefault(1L, "x"));
+        Assert.assertNull(map.getOrDefault(0L, "x"));
+
+        // 与 java.util.Map 一致，值为 null 视为不存在：计算并覆盖
+        Assert.assertEquals("v1", map.computeIfAbsent(1L, key -> "v" + key));
+        Assert.assertEquals("v1", map.get(1L));
+        Assert.assertEquals("v0", map.computeIfAbsent(0L, key -> "v" + key));
+
+        // 已存在时不再计算
+        Assert.assertEquals("v1", map.computeIfAbsent(1L, key -> {
+            throw new IllegalStateException();
+        }));
+
+        // 计算结果为 null 时不写入，原有的 null 值保留
+        map.put(2L, null);
+        Assert.assertNull(map.computeIfAbsent(2L, key -> null));
+        Assert.assertTrue(map.containsKey(2L));
+        Assert.assertNull(map.computeIfAbsent(3L, key -> null));
+        Assert.assertFalse(map.containsKey(3L));
+        Assert.assertEquals(3, map.size());
+    }
+
+    @Test
+    public void testRemoveWrapAround() {
+        long[] tail = LongHashSetTest.keysAtSlot(31, 3);
+        long[] beforeTail = LongHashSetTest.keysAtSlot(30, 2);
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(beforeTail[0], "b0");
+        for (int i = 0; i < tail.length; i++) {
+            map.put(tail[i], "t" + i);
+        }
+        map.put(beforeTail[1], "b1");
+
+        // 值随 key 一起前移
+        Assert.assertEquals("b0", map.remove(beforeTail[0]));
+        for (int i = 0; i < tail.length; i++) {
+            Assert.assertEquals("t" + i, map.get(tail[i]));
+        }
+        Assert.assertEquals("b1", map.get(beforeTail[1]));
+
+        Assert.assertEquals("t1", map.remove(tail[1]));
+        Assert.assertEquals("t0", map.get(tail[0]));
+        Assert.assertEquals("t2", map.get(tail[2]));
+        Assert.assertEquals("b1", map.get(beforeTail[1]));
+        Assert.assertNull(map.remove(tail[1]));
+        Assert.assertEquals(3, map.size());
+    }
+
+    @Test
+    public void testRehash() {
+        LongObjectMap<Long> map = new LongObjectMap<>(4);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 200000; i++) {
+            long key = random.nextInt(40000) - 20000L;
+            if (random.nextInt(3) == 0) {
+                Assert.assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                Assert.assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+        Assert.assertEquals(expected.size(), map.size());
+        for (long key = -20000; key < 20000; key++) {
+            Assert.assertEquals(expected.get(key), map.get(key));
+        }
+
+        Map<Long, Long> actual = new HashMap<>();
+        map.forEach(actual::put);
+        Assert.assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,235 @@
+package com.github.superzhc.core.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MapHelperTest {
+
+    public enum Color {
+        RED, GREEN
+    }
+
+    public static class Bean {
+        private static int ignored = 1;
+
+        private int i = -1;
+        private Integer boxed;
+        private long l;
+        private short sh;
+        private byte b;
+        private double d;
+        private float f;
+        private boolean flag;
+        private char c;
+        private BigDecimal dec;
+        private BigInteger big;
+        private String s;
+        private Color color;
+        private Object any;
+        private List<String> tags;
+    }
+
+    public static class NoDefaultConstructor {
+        private final int id;
+
+        public NoDefaultConstructor(int id) {
+            this.id = id;
+        }
+    }
+
+    @Test
+    public void testMapper() {
+        MapHelper.BeanMapper<Bean> mapper = MapHelper.mapper(Bean.class);
+        Assert.assertSame(mapper, MapHelper.mapper(Bean.class));
+        Assert.assertEquals(Bean.class, mapper.beanClass());
+        // 按声明顺序，不含静态字段
+        Assert.assertEquals(Arrays.asList("i", "boxed", "l", "sh", "b", "d", "f", "flag", "c", "dec", "big", "s", "color", "any", "tags"), mapper.names());
+
+        try {
+            MapHelper.mapper(NoDefaultConstructor.class).newInstance();
+            Assert.fail();
+        } catch (RuntimeException e) {
+            // 无空构造函数
+        }
+        Assert.assertEquals(Collections.singletonMap("id", 3), MapHelper.beanToMap(new NoDefaultConstructor(3)));
+    }
+
+    @Test
+    public void testCoercion() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("i", "12");
+        map.put("boxed", 2.0);
+        map.put("l", " 9007199254740993 ");
+        map.put("sh", 300L);
+        map.put("b", "-128");
+        map.put("d", "1.5");
+        map.put("f", 3);
+        map.put("flag", "1");
+        map.put("c", "x");
+        map.put("dec", "1.50");
+        map.put("big", 1e3);
+        map.put("s", 12);
+        map.put("color", " GREEN ");
+        map.put("any", 'z');
+        map.put("tags", Arrays.asList("a", "b"));
+
+        Bean bean = MapHelper.mapToBean(map, Bean.class);
+        Assert.assertEquals(12, bean.i);
+        Assert.assertEquals(Integer.valueOf(2), bean.boxed);
+        // 整数按 long 解析，不经过 double
+        Assert.assertEquals(9007199254740993L, bean.l);
+        Assert.assertEquals(300, bean.sh);
+        Assert.assertEquals(-128, bean.b);
+        Assert.assertEquals(1.5, bean.d, 0.0);
+        Assert.assertEquals(3.0f, bean.f, 0.0);
+        Assert.assertTrue(bean.flag);
+        Assert.assertEquals('x', bean.c);
+        Assert.assertEquals(new BigDecimal("1.50"), bean.dec);
+        Assert.assertEquals(BigInteger.valueOf(1000), bean.big);
+        Assert.assertEquals("12", bean.s);
+        Assert.assertEquals(Color.GREEN, bean.color);
+        Assert.assertEquals('z', bean.any);
+        Assert.assertEquals(Arrays.asList("a", "b"), bean.tags);
+
+        // 布尔、字符转数值，数值转布尔
+        map.clear();
+        map.put("i", true);
+        map.put("l", 'A');
+        map.put("flag", 0.5);
+        bean = MapHelper.mapToBean(map, Bean.class);
+        Assert.assertEquals(1, bean.i);
+        Assert.assertEquals(65L, bean.l);
+        Assert.assertTrue(bean.flag);
+
+        // 基本类型遇到 null 保持默认值，包装类型置为 null
+        map.clear();
+        map.put("i", null);
+        map.put("boxed", null);
+        bean = MapHelper.mapToBean(map, Bean.class);
+        Assert.assertEquals(-1, bean.i);
+        Assert.assertNull(bean.boxed);
+    }
+
+    @Test
+    public void testExactIntegers() {
+        assertRejected("i", "1.5");
+        assertRejected("i", 1.5);
+        assertRejected("i", Long.MAX_VALUE);
+        assertRejected("i", "2147483648");
+        assertRejected("boxed", new BigDecimal("-2147483649"));
+        assertRejected("l", "1e20");
+        assertRejected("l", "9223372036854775808");
+        assertRejected("l", Double.NaN);
+        assertRejected("sh", 32768);
+        assertRejected("b", "128");
+        assertRejected("big", "1.5");
+
+        // 小数部分为 0 以及范围边界可以转换
+        Map<String, Object> map = new HashMap<>();
+        map.put("i", "2147483647");
+        map.put("l", "1.00");
+        map.put("sh", -32768.0);
+        map.put("big", "1E+2");
+        Bean bean = MapHelper.mapToBean(map, Bean.class);
+        Assert.assertEquals(Integer.MAX_VALUE, bean.i);
+        Assert.assertEquals(1L, bean.l);
+        Assert.assertEquals(Short.MIN_VALUE, bean.sh);
+        Assert.assertEquals(BigInteger.valueOf(100), bean.big);
+    }
+
+    @Test
+    public void testInvalidValues() {
+        assertRejected("d", "abc");
+        assertRejected("c", "xy");
+        assertRejected("color", "BLUE");
+        assertRejected("tags", "a,b");
+    }
+
+    @Test
+    public void testToMap() {
+        Bean bean = new Bean();
+        bean.i = 7;
+        bean.s = "x";
+        bean.color = Color.RED;
+
+        Map<String, ?> map = MapHelper.beanToMap(bean);
+        Assert.assertEquals(MapHelper.mapper(Bean.class).names(), Arrays.asList(map.keySet().toArray()));
+        Assert.assertEquals(7, map.get("i"));
+        Assert.assertEquals("x", map.get("s"));
+        Assert.assertEquals(Color.RED, map.get("color"));
+        Assert.assertTrue(map.containsKey("boxed"));
+        Assert.assertNull(map.get("boxed"));
+        Assert.assertFalse(map.containsKey("ignored"));
+
+        // 转换回 Bean
+        Bean copy = MapHelper.mapToBean(map, Bean.class);
+        Assert.assertEquals(7, copy.i);
+        Assert.assertEquals("x", copy.s);
+        Assert.assertEquals(Color.RED, copy.color);
+
+        Assert.assertNull(MapHelper.beanToMap(null));
+        Assert.assertNull(MapHelper.mapToBean(null, Bean.class));
+    }
+
+    @Test
+    public void testBatch() {
+        List<Map<String, Object>> maps = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            maps.add(i % 1000 == 1 ? null : Collections.singletonMap("i", String.valueOf(i)));
+        }
+
+        // 并行转换的结果与顺序转换一致，null 元素保持为 null
+        List<Bean> beans = MapHelper.mapsToBeans(maps, Bean.class);
+        List<Bean> parallel = MapHelper.mapsToBeans(maps, Bean.class, true);
+        Assert.assertEquals(maps.size(), parallel.size());
+        for (int i = 0; i < maps.size(); i++) {
+            if (i % 1000 == 1) {
+                Assert.assertNull(beans.get(i));
+                Assert.assertNull(parallel.get(i));
+            } else {
+                Assert.assertEquals(i, beans.get(i).i);
+                Assert.assertEquals(i, parallel.get(i).i);
+            }
+        }
+
+        List<Map<String, Object>> back = MapHelper.beansToMaps(beans);
+        Assert.assertEquals(back, MapHelper.beansToMaps(beans, true));
+        Assert.assertNull(back.get(1));
+        Assert.assertEquals(3, back.get(3).get("i"));
+
+        Assert.assertNull(MapHelper.mapsToBeans(null, Bean.class));
+        Assert.assertNull(MapHelper.beansToMaps(null));
+    }
+
+    @Test
+    public void testBeansToMapsMixed() {
+        // 全为 null
+        Assert.assertEquals(Arrays.asList(null, null), MapHelper.beansToMaps(Arrays.asList(null, null)));
+
+        // 不同类型的元素各自使用对应的映射器
+        Bean bean = new Bean();
+        bean.i = 5;
+        List<Map<String, Object>> maps = MapHelper.beansToMaps(Arrays.asList(null, bean, new NoDefaultConstructor(2)));
+        Assert.assertNull(maps.get(0));
+        Assert.assertEquals(5, maps.get(1).get("i"));
+        Assert.assertEquals(Collections.singletonMap("id", 2), maps.get(2));
+    }
+
+    private static void assertRejected(String field, Object value) {
+        try {
+            MapHelper.mapToBean(Collections.singletonMap(field, value), Bean.class);
+            Assert.fail(field + "=" + value);
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("字段" + field));
+        }
+    }
+}
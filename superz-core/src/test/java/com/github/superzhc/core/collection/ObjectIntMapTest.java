@@ -0,0 +1,135 @@
+package com.github.superzhc.core.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class ObjectIntMapTest {
+
+    /**
+     * hashCode 可控的 key，用于构造冲突
+     */
+    private static final class Key {
+        private final int hash;
+        private final int id;
+
+        Key(int hash, int id) {
+            this.hash = hash;
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).hash == hash && ((Key) o).id == id;
+        }
+    }
+
+    @Test
+    public void testBasic() {
+        ObjectIntMap<String> map = new ObjectIntMap<>();
+        Assert.assertEquals(0, map.get("a"));
+        Assert.assertEquals(-1, map.getOrDefault("a", -1));
+        Assert.assertEquals(0, map.put("a", -5));
+        Assert.assertEquals(-5, map.put("a", 0));
+        // 值为 0 与不存在可以通过 containsKey 区分
+        Assert.assertTrue(map.containsKey("a"));
+        Assert.assertEquals(0, map.getOrDefault("a", -1));
+
+        Assert.assertEquals(3, map.addTo("b", 3));
+        Assert.assertEquals(1, map.addTo("b", -2));
+        Assert.assertEquals(7, map.putIfAbsent("c", 7));
+        Assert.assertEquals(7, map.putIfAbsent("c", 8));
+        Assert.assertEquals(3, map.size());
+
+        Assert.assertEquals(1, map.remove("b"));
+        Assert.assertEquals(0, map.remove("b"));
+        Assert.assertFalse(map.containsKey(null));
+        Assert.assertEquals(0, map.remove(null));
+        try {
+            map.put(null, 1);
+            Assert.fail();
+        } catch (NullPointerException e) {
+            // key 不能为 null
+        }
+
+        map.clear();
+        Assert.assertTrue(map.isEmpty());
+        Assert.assertFalse(map.containsKey("a"));
+    }
+
+    @Test
+    public void testRemoveWrapAround() {
+        // 默认容量为 32：找出理想位置为最后两个槽位的 hashCode
+        int tailHash = hashAtSlot(31);
+        int beforeTailHash = hashAtSlot(30);
+        ObjectIntMap<Key> map = new ObjectIntMap<>();
+        Key b0 = new Key(beforeTailHash, 0);
+        Key b1 = new Key(beforeTailHash, 1);
+        Key[] tail = {new Key(tailHash, 0), new Key(tailHash, 1), new Key(tailHash, 2)};
+        map.put(b0, 100);
+        for (int i = 0; i < tail.length; i++) {
+            map.put(tail[i], i);
+        }
+        map.put(b1, 101);
+
+        Assert.assertEquals(100, map.remove(b0));
+        for (int i = 0; i < tail.length; i++) {
+            Assert.assertTrue(map.containsKey(tail[i]));
+            Assert.assertEquals(i, map.get(tail[i]));
+        }
+        Assert.assertEquals(101, map.get(b1));
+
+        Assert.assertEquals(1, map.remove(tail[1]));
+        Assert.assertEquals(0, map.getOrDefault(tail[0], -1));
+        Assert.assertEquals(2, map.getOrDefault(tail[2], -1));
+        Assert.assertEquals(101, map.getOrDefault(b1, -1));
+        Assert.assertFalse(map.containsKey(tail[1]));
+        Assert.assertEquals(3, map.size());
+    }
+
+    @Test
+    public void testRehash() {
+        // 大量 hashCode 相同的 key 与普通 key 混合
+        ObjectIntMap<Object> map = new ObjectIntMap<>(4);
+        Map<Object, Integer> expected = new HashMap<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 100000; i++) {
+            int n = random.nextInt(20000);
+            Object key = n % 10 == 0 ? new Key(7, n) : Integer.valueOf(n - 10000);
+            if (random.nextInt(3) == 0) {
+                Integer old = expected.remove(key);
+                Assert.assertEquals(null == old ? 0 : old, map.remove(key));
+            } else {
+                expected.merge(key, 1, Integer::sum);
+                map.addTo(key, 1);
+            }
+        }
+        Assert.assertEquals(expected.size(), map.size());
+        for (Map.Entry<Object, Integer> entry : expected.entrySet()) {
+            Assert.assertEquals((int) entry.getValue(), map.getOrDefault(entry.getKey(), -1));
+        }
+
+        Map<Object, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        Assert.assertEquals(expected, actual);
+    }
+
+    /**
+     * 与 ObjectIntMap 的散列方式一致，容量为 32 时理想位置为 slot 的 hashCode
+     */
+    private static int hashAtSlot(int slot) {
+        for (int h = 0; ; h++) {
+            int x = h * 0x9E3779B9;
+            if (((x ^ (x >>> 16)) & 31) == slot)
+                return h;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.superzhc.core.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+
+public class RecordBufferTest {
+
+    @Test
+    public void testSpill() throws IOException {
+        File dir = Files.createTempDirectory("record-buffer-test").toFile();
+        // 单个 64 字节的段，每段最多 4 条变长记录，写满后溢写
+        try (RecordBuffer buffer = new RecordBuffer(64, 0, dir)) {
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                String record = "record-" + (i % 10) + (i < 10 ? "" : "xx");
+                expected.add(record);
+                buffer.append(record.getBytes(StandardCharsets.UTF_8));
+            }
+
+            Assert.assertEquals(100, buffer.size());
+            Assert.assertTrue(buffer.spilledBytes() > 0);
+            Assert.assertTrue(buffer.memoryBytes() <= 64);
+            Assert.assertEquals(expected, strings(buffer));
+            // 可重复遍历
+            Assert.assertEquals(expected, strings(buffer));
+
+            File[] files = dir.listFiles();
+            Assert.assertEquals(1, files.length);
+            Assert.assertEquals(buffer.spilledBytes(), files[0].length());
+
+            // clear 截断溢写文件，之后只遍历新写入的记录
+            buffer.clear();
+            Assert.assertTrue(buffer.isEmpty());
+            Assert.assertEquals(0, buffer.spilledBytes());
+            Assert.assertEquals(0, files[0].length());
+            Assert.assertEquals(new ArrayList<>(), strings(buffer));
+
+            buffer.append(ByteBuffer.wrap("after".getBytes(StandardCharsets.UTF_8)));
+            Assert.assertEquals(1, buffer.size());
+            List<String> after = new ArrayList<>();
+            after.add("after");
+            Assert.assertEquals(after, strings(buffer));
+        } finally {
+            File[] files = dir.listFiles();
+            Assert.assertEquals(0, files.length);
+            dir.delete();
+        }
+    }
+
+    @Test
+    public void testFixedLength() {
+        try (RecordBuffer buffer = new RecordBuffer(32, 8, null)) {
+            for (long i = 0; i < 20; i++) {
+                buffer.append(ByteBuffer.allocate(8).putLong(0, i));
+            }
+            // 32 字节的段恰好容纳 4 条定长记录，没有长度头
+            Assert.assertEquals(20 * 8 - buffer.memoryBytes(), buffer.spilledBytes());
+
+            long i = 0;
+            for (ByteBuffer record : buffer) {
+                Assert.assertEquals(8, record.remaining());
+                Assert.assertEquals(i++, record.getLong());
+            }
+            Assert.assertEquals(20, i);
+
+            try {
+                buffer.append(new byte[4]);
+                Assert.fail();
+            } catch (IllegalArgumentException e) {
+                // 长度与 recordSize 不一致
+            }
+            Assert.assertEquals(20, buffer.size());
+        }
+    }
+
+    @Test
+    public void testVariableLength() {
+        try (RecordBuffer buffer = new RecordBuffer(1024)) {
+            byte[] bytes = "0123456789".getBytes(StandardCharsets.UTF_8);
+            buffer.append(bytes, 2, 3);
+            buffer.append(new byte[0]);
+            ByteBuffer source = ByteBuffer.wrap(bytes);
+            source.position(8);
+            buffer.append(source);
+            // 不改变传入 ByteBuffer 的 position
+            Assert.assertEquals(8, source.position());
+
+            Assert.assertEquals(3 * 4 + 3 + 0 + 2, buffer.memoryBytes());
+            List<String> expected = new ArrayList<>();
+            expected.add("234");
+            expected.add("");
+            expected.add("89");
+            Assert.assertEquals(expected, strings(buffer));
+
+            // 越界时不写入任何内容
+            try {
+                buffer.append(bytes, 8, 5);
+                Assert.fail();
+            } catch (IndexOutOfBoundsException e) {
+                // offset + length 超出数组
+            }
+            try {
+                buffer.append(bytes, -1, 2);
+                Assert.fail();
+            } catch (IndexOutOfBoundsException e) {
+                // offset 为负
+            }
+            Assert.assertEquals(3, buffer.size());
+            Assert.assertEquals(expected, strings(buffer));
+
+            try {
+                buffer.append(new byte[1021]);
+                Assert.fail();
+            } catch (IllegalArgumentException e) {
+                // 加上长度头超过段大小
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentModification() {
+        RecordBuffer buffer = new RecordBuffer(1024);
+        buffer.append(new byte[]{1});
+        buffer.append(new byte[]{2});
+
+        Iterator<ByteBuffer> it = buffer.iterator();
+        it.next();
+        buffer.append(new byte[]{3});
+        try {
+            it.hasNext();
+            Assert.fail();
+        } catch (ConcurrentModificationException e) {
+            // 遍历期间追加
+        }
+
+        it = buffer.iterator();
+        buffer.clear();
+        try {
+            it.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException e) {
+            // 遍历期间清空
+        }
+
+        buffer.close();
+        try {
+            buffer.iterator();
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // 已关闭
+        }
+    }
+
+    private static List<String> strings(RecordBuffer buffer) {
+        List<String> result = new ArrayList<>();
+        for (ByteBuffer record : buffer) {
+            byte[] bytes = new byte[record.remaining()];
+            record.get(bytes);
+            result.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,154 @@
+package com.github.superzhc.core.collection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RowMapTest {
+    private static final RowMap.Schema SCHEMA = RowMap.Schema.of("a", "b", "c", "a");
+
+    @Test
+    public void testSchema() {
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), SCHEMA.keys());
+        Assert.assertEquals(1, SCHEMA.indexOf("b"));
+        Assert.assertEquals(-1, SCHEMA.indexOf("d"));
+        Assert.assertEquals(-1, SCHEMA.indexOf(null));
+    }
+
+    @Test
+    public void testMapContract() {
+        RowMap row = RowMap.of(SCHEMA, 1, null, "x");
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("a", 1);
+        expected.put("b", null);
+        expected.put("c", "x");
+        assertMapEquals(expected, row);
+
+        // null 值与不存在的 key 区分
+        Assert.assertTrue(row.containsKey("b"));
+        Assert.assertNull(row.remove("b"));
+        expected.remove("b");
+        Assert.assertFalse(row.containsKey("b"));
+        assertMapEquals(expected, row);
+
+        // Schema 外的 key
+        row.put("d", 4);
+        row.put("e", null);
+        expected.put("d", 4);
+        expected.put("e", null);
+        assertMapEquals(expected, row);
+        Assert.assertTrue(row.containsValue(4));
+        Assert.assertTrue(row.containsKey("e"));
+
+        // 删除后重新写入的 key 仍在 Schema 中的原位置
+        row.put("b", 2);
+        Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e"), new ArrayList<>(row.keySet()));
+
+        row.clear();
+        Assert.assertTrue(row.isEmpty());
+        Assert.assertEquals(new LinkedHashMap<>(), row);
+    }
+
+    @Test
+    public void testNewRow() {
+        RowMap row = SCHEMA.newRow();
+        Assert.assertEquals(0, row.size());
+        Assert.assertNull(row.put("c", 3));
+        Assert.assertEquals(3, row.put("c", 30));
+        Assert.assertEquals(1, row.size());
+        Assert.assertEquals(30, row.get(2));
+        Assert.assertNull(row.get(0));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        RowMap row = RowMap.of(SCHEMA, 1, 2, 3);
+        row.put("d", 4);
+        row.put("e", 5);
+
+        // 最后一个 Schema 中的 key：next 之后先调用 hasNext（会提前切换到 Schema 外的 key）再删除
+        Iterator<Map.Entry<String, Object>> it = row.entrySet().iterator();
+        it.next();
+        it.next();
+        Assert.assertEquals("c", it.next().getKey());
+        Assert.assertTrue(it.hasNext());
+        it.remove();
+        Assert.assertEquals("d", it.next().getKey());
+        it.remove();
+        try {
+            it.remove();
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // 同一个元素不能删除两次
+        }
+        Assert.assertEquals("e", it.next().getKey());
+        Assert.assertFalse(it.hasNext());
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("a", 1);
+        expected.put("b", 2);
+        expected.put("e", 5);
+        assertMapEquals(expected, row);
+
+        // 通过 entry 修改值
+        for (Map.Entry<String, Object> entry : row.entrySet()) {
+            entry.setValue(entry.getKey());
+        }
+        Assert.assertEquals(Arrays.asList("a", "b", "e"), new ArrayList<>(row.values()));
+
+        row.keySet().removeIf(key -> !"b".equals(key));
+        Assert.assertEquals(1, row.size());
+        Assert.assertEquals("b", row.get("b"));
+    }
+
+    @Test
+    public void testSerializable() throws IOException, ClassNotFoundException {
+        RowMap first = RowMap.of(SCHEMA, 1, null, "x");
+        first.remove("c");
+        first.put("d", 4);
+        RowMap second = SCHEMA.newRow();
+        second.put("b", 2);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(Arrays.asList(first, second));
+        }
+        List<?> rows;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            rows = (List<?>) in.readObject();
+        }
+
+        RowMap a = (RowMap) rows.get(0);
+        RowMap b = (RowMap) rows.get(1);
+        assertMapEquals(first, a);
+        assertMapEquals(second, b);
+        Assert.assertFalse(a.containsKey("c"));
+        Assert.assertTrue(a.containsKey("b"));
+        Assert.assertTrue(a.schema() == b.schema());
+        Assert.assertEquals(2, a.schema().indexOf("c"));
+
+        // 反序列化的行仍可正常写入
+        a.put("c", "y");
+        Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), new ArrayList<>(a.keySet()));
+    }
+
+    private static void assertMapEquals(Map<String, Object> expected, Map<String, Object> actual) {
+        Assert.assertEquals(expected, actual);
+        Assert.assertEquals(actual, expected);
+        Assert.assertEquals(expected.hashCode(), actual.hashCode());
+        Assert.assertEquals(expected.size(), actual.size());
+        Assert.assertEquals(expected.toString(), actual.toString());
+        Assert.assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 流式遍历 json 数组，每次只反序列化一个元素，内存占用与文件大小无关
+ * <p>
+ * 构造时 parser 需已定位到数组的 START_ARRAY，遍历结束或调用 close 时关闭 parser
+ *
+ * @author superz
+ * @create 2026/10/18 10:12
+ **/
+public class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+    private final JsonParser parser;
+    private final ObjectReader reader;
+
+    private boolean hasNextChecked = false;
+    private boolean finished = false;
+
+    public JsonArrayIterator(JsonParser parser, ObjectReader reader) {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new RuntimeException("json 节点不是数组，无法流式遍历");
+        }
+        this.parser = parser;
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+
+        if (!hasNextChecked) {
+            try {
+                JsonToken token = parser.nextToken();
+                if (null == token || token == JsonToken.END_ARRAY) {
+                    close();
+                    return false;
+                }
+            } catch (IOException e) {
+                closeQuietly();
+                throw new RuntimeException(e);
+            }
+            hasNextChecked = true;
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        hasNextChecked = false;
+        try {
+            // json 中的 null 元素直接返回 null，不交给 reader 处理
+            if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            return reader.readValue(parser);
+        } catch (IOException e) {
+            closeQuietly();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        parser.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * 二进制 json 格式，与 JsonUtils 的文本 json 使用相同的配置，读取得到的 JsonNode 可直接使用 JsonUtils 的各类提取方法
+ * <p>
+ * 需引入对应的依赖包：
+ * <ul>
+ *     <li>SMILE：com.fasterxml.jackson.dataformat:jackson-dataformat-smile</li>
+ *     <li>CBOR：com.fasterxml.jackson.dataformat:jackson-dataformat-cbor</li>
+ *     <li>MSGPACK：org.msgpack:jackson-dataformat-msgpack</li>
+ * </ul>
+ *
+ * @author superz
+ * @create 2026/10/18 16:48
+ **/
+public enum JsonBinaryFormat {
+    SMILE("com.fasterxml.jackson.dataformat.smile.SmileFactory"),
+    CBOR("com.fasterxml.jackson.dataformat.cbor.CBORFactory"),
+    MSGPACK("org.msgpack.jackson.dataformat.MessagePackFactory");
+
+    private final String factoryClassName;
+    private volatile JsonProfile profile = null;
+
+    JsonBinaryFormat(String factoryClassName) {
+        this.factoryClassName = factoryClassName;
+    }
+
+    /**
+     * 该格式对应的配置方案，首次使用时创建
+     *
+     * @return
+     */
+    public JsonProfile profile() {
+        JsonProfile p = profile;
+        if (null == p) {
+            synchronized (this) {
+                p = profile;
+                if (null == p) {
+                    try {
+                        JsonFactory factory = (JsonFactory) Class.forName(factoryClassName).newInstance();
+                        p = JsonProfile.create(factory, false, false);
+                    } catch (ClassNotFoundException e) {
+                        throw new RuntimeException("未引入" + name() + "格式的依赖包，缺少类：" + factoryClassName, e);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                    profile = p;
+                }
+            }
+        }
+        return p;
+    }
+
+    public JsonNode loads(byte[] bytes, Object... paths) {
+        return JsonUtils.object(profile().readTree(bytes), paths);
+    }
+
+    public JsonNode loads(InputStream in, Object... paths) {
+        return JsonUtils.object(profile().readTree(in), paths);
+    }
+
+    public JsonNode loads(File file, Object... paths) {
+        try (JsonParser parser = parser(file)) {
+            return JsonUtils.object(profile().reader().readTree(parser), paths);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public <T> T bean(byte[] bytes, Class<T> clazz) {
+        try {
+            return profile().reader().forType(clazz).readValue(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public byte[] asBytes(Object value) {
+        return profile().asBytes(value);
+    }
+
+    public void write(OutputStream out, Object value) {
+        try {
+            profile().writer().writeValue(out, value);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 文本 json 转换成该格式
+     *
+     * @param json
+     * @return
+     */
+    public byte[] fromJson(String json) {
+        return asBytes(JsonUtils.loads(json));
+    }
+
+    public String toJson(byte[] bytes) {
+        return JsonUtils.asString(loads(bytes));
+    }
+
+    //region===================================流式提取===================================================================
+    public <T> JsonArrayIterator<T> iterator(InputStream in, Class<T> clazz, Object... paths) {
+        return JsonUtils.iterator(parser(in), clazz, paths);
+    }
+
+    public long[] longArray(InputStream in, long nullValue, Object... paths) {
+        return JsonUtils.longArray(parser(in), nullValue, paths);
+    }
+
+    public double[] doubleArray(InputStream in, double nullValue, double nanValue, Object... paths) {
+        return JsonUtils.doubleArray(parser(in), nullValue, nanValue, paths);
+    }
+
+    public JsonColumns columns(InputStream in, Map<String, JsonColumns.Type> schema, Object... paths) {
+        return JsonColumns.extract(parser(in), schema, paths);
+    }
+
+    public JsonParser parser(InputStream in) {
+        try {
+            return profile().mapper().createParser(in);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public JsonParser parser(File file) {
+        try {
+            return profile().mapper().createParser(file);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    //endregion================================流式提取===================================================================
+}
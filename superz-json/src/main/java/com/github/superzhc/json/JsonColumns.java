@@ -0,0 +1,624 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * 对象数组的列式提取结果
+ * <p>
+ * 一次遍历对象数组，将每个字段填充到类型化的列中：整数列为 long[]，浮点列为 double[]，字符串列为字典编码，空值记录在 BitSet 中，不再为每个单元格创建 String
+ * <p>
+ * 未指定列类型时根据数据推断：整数列遇到浮点数提升为浮点列，数值列遇到非数值提升为字符串列
+ * <p>
+ * 字符串列中的数值单元格（含提升前已写入的单元格）统一按 Long.toString/Double.toString 输出，不保留原始文本，
+ * 如 1.50 输出为 "1.5"、1e3 输出为 "1000.0"；树节点中的浮点数本身已不保留原始文本，这样树节点与 token 流两种提取方式的结果一致
+ * <p>
+ * 对象中出现重复字段时两种提取方式的结果不同：树节点在解析时已由后出现的值覆盖前面的值，取最后一个；token 流只取第一个，后续的值直接跳过
+ *
+ * @author superz
+ * @create 2026/10/18 14:02
+ **/
+public class JsonColumns {
+    public enum Type {
+        LONG, DOUBLE, STRING
+    }
+
+    private final int rowCount;
+    private final Map<String, Column> columns;
+
+    private JsonColumns(int rowCount, Map<String, Column> columns) {
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    //region===================================提取===================================================================
+
+    /**
+     * 从树节点中提取，列类型根据数据推断
+     *
+     * @param node
+     * @param paths 对象数组所在的路径
+     * @return
+     */
+    public static JsonColumns extract(JsonNode node, Object... paths) {
+        return extract(node, null, paths);
+    }
+
+    /**
+     * 从树节点中提取
+     *
+     * @param node
+     * @param schema 列名及列类型，只提取 schema 中的列；为 null 时提取所有字段并推断类型
+     * @param paths
+     * @return
+     */
+    public static JsonColumns extract(JsonNode node, Map<String, Type> schema, Object... paths) {
+        JsonNode childNode = JsonUtils.object(node, paths);
+        if (null == childNode || !childNode.isArray()) {
+            throw new RuntimeException("json 路径" + Arrays.toString(paths) + "不是数组");
+        }
+        int size = childNode.size();
+        Map<String, Builder> builders = builders(schema, size);
+
+        int row = 0;
+        for (JsonNode item : childNode) {
+            if (null != schema) {
+                for (Builder builder : builders.values()) {
+                    builder.padTo(row);
+                    append(builder, item.get(builder.name));
+                }
+            } else {
+                Iterator<Map.Entry<String, JsonNode>> fields = item.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    Builder builder = builders.get(field.getKey());
+                    if (null == builder) {
+                        builder = new Builder(field.getKey(), null, size);
+                        builders.put(field.getKey(), builder);
+                    }
+                    builder.padTo(row);
+                    append(builder, field.getValue());
+                }
+            }
+            row++;
+        }
+        return build(row, builders);
+    }
+
+    public static JsonColumns extract(File file, Map<String, Type> schema, Object... paths) {
+        try {
+            return extract(JsonUtils.mapper().getFactory().createParser(file), schema, paths);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static JsonColumns extract(InputStream in, Map<String, Type> schema, Object... paths) {
+        try {
+            return extract(JsonUtils.mapper().getFactory().createParser(in), schema, paths);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 直接从 token 流中提取，不构建树节点，提取完成后关闭 parser
+     *
+     * @param parser
+     * @param schema 为 null 时提取所有字段并推断类型
+     * @param paths
+     * @return
+     */
+    public static JsonColumns extract(JsonParser parser, Map<String, Type> schema, Object... paths) {
+        try (JsonParser p = parser) {
+            if (!JsonUtils.seek(p, paths) || p.currentToken() != JsonToken.START_ARRAY) {
+                throw new RuntimeException("json 路径" + Arrays.toString(paths) + "不是数组");
+            }
+
+            Map<String, Builder> builders = builders(schema, 16);
+            int row = 0;
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY && null != token) {
+                if (token != JsonToken.START_OBJECT) {
+                    // 非对象元素整行为空
+                    p.skipChildren();
+                    row++;
+                    continue;
+                }
+
+                while (p.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = p.getCurrentName();
+                    JsonToken valueToken = p.nextToken();
+
+                    Builder builder = builders.get(name);
+                    if (null == builder) {
+                        if (null != schema) {
+                            p.skipChildren();
+                            continue;
+                        }
+                        builder = new Builder(name, null, 16);
+                        builders.put(name, builder);
+                    }
+
+                    builder.padTo(row);
+                    if (builder.size > row) {
+                        // 重复字段只取第一个，与树节点取最后一个不同，见类注释
+                        p.skipChildren();
+                        continue;
+                    }
+                    append(builder, p, valueToken);
+                }
+                row++;
+            }
+            return build(row, builders);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Map<String, Builder> builders(Map<String, Type> schema, int capacity) {
+        Map<String, Builder> builders = new LinkedHashMap<>();
+        if (null != schema) {
+            for (Map.Entry<String, Type> entry : schema.entrySet()) {
+                builders.put(entry.getKey(), new Builder(entry.getKey(), entry.getValue(), capacity));
+            }
+        }
+        return builders;
+    }
+
+    private static JsonColumns build(int rowCount, Map<String, Builder> builders) {
+        Map<String, Column> columns = new LinkedHashMap<>();
+        for (Builder builder : builders.values()) {
+            columns.put(builder.name, builder.build(rowCount));
+        }
+        return new JsonColumns(rowCount, columns);
+    }
+
+    private static void append(Builder builder, JsonNode value) {
+        if (null == value || value.isNull() || value.isMissingNode()) {
+            builder.appendNull();
+        } else if (value.isIntegralNumber()) {
+            if (value.canConvertToLong()) {
+                builder.appendLong(value.longValue());
+            } else {
+                builder.appendDouble(value.doubleValue());
+            }
+        } else if (value.isNumber()) {
+            builder.appendDouble(value.doubleValue());
+        } else if (value.isContainerNode()) {
+            builder.appendString(value.toString());
+        } else {
+            builder.appendString(value.asText());
+        }
+    }
+
+    private static void append(Builder builder, JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_NULL:
+                builder.appendNull();
+                break;
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    builder.appendDouble(parser.getDoubleValue());
+                } else {
+                    builder.appendLong(parser.getLongValue());
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                builder.appendDouble(parser.getDoubleValue());
+                break;
+            case START_OBJECT:
+            case START_ARRAY:
+                builder.appendString(parser.readValueAsTree().toString());
+                break;
+            default:
+                builder.appendString(parser.getText());
+        }
+    }
+    //endregion================================提取===================================================================
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public Set<String> names() {
+        return columns.keySet();
+    }
+
+    public Column column(String name) {
+        return columns.get(name);
+    }
+
+    public LongColumn longColumn(String name) {
+        return column(name, LongColumn.class);
+    }
+
+    public DoubleColumn doubleColumn(String name) {
+        return column(name, DoubleColumn.class);
+    }
+
+    public StringColumn stringColumn(String name) {
+        return column(name, StringColumn.class);
+    }
+
+    private <T extends Column> T column(String name, Class<T> clazz) {
+        Column column = columns.get(name);
+        if (null == column) {
+            return null;
+        }
+        if (!clazz.isInstance(column)) {
+            throw new RuntimeException("列【" + name + "】的类型为" + column.type());
+        }
+        return clazz.cast(column);
+    }
+
+    public static abstract class Column {
+        private final String name;
+        private final BitSet nulls;
+
+        private Column(String name, BitSet nulls) {
+            this.name = name;
+            this.nulls = nulls;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public abstract Type type();
+
+        public abstract int size();
+
+        public boolean isNull(int index) {
+            return nulls.get(index);
+        }
+
+        /**
+         * 空值位图，第 i 位为 1 表示第 i 行为空
+         *
+         * @return
+         */
+        public BitSet nulls() {
+            return nulls;
+        }
+
+        public abstract Object get(int index);
+    }
+
+    /**
+     * 整数列，空值位置的值为 0
+     */
+    public static class LongColumn extends Column {
+        private final long[] values;
+
+        private LongColumn(String name, BitSet nulls, long[] values) {
+            super(name, nulls);
+            this.values = values;
+        }
+
+        @Override
+        public Type type() {
+            return Type.LONG;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        public long getLong(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Long get(int index) {
+            return isNull(index) ? null : values[index];
+        }
+
+        public long[] values() {
+            return values;
+        }
+    }
+
+    /**
+     * 浮点列，空值位置的值为 NaN
+     */
+    public static class DoubleColumn extends Column {
+        private final double[] values;
+
+        private DoubleColumn(String name, BitSet nulls, double[] values) {
+            super(name, nulls);
+            this.values = values;
+        }
+
+        @Override
+        public Type type() {
+            return Type.DOUBLE;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        public double getDouble(int index) {
+            return values[index];
+        }
+
+        @Override
+        public Double get(int index) {
+            return isNull(index) ? null : values[index];
+        }
+
+        public double[] values() {
+            return values;
+        }
+    }
+
+    /**
+     * 字典编码的字符串列，空值位置的编码为 -1
+     */
+    public static class StringColumn extends Column {
+        private final int[] codes;
+        private final String[] dictionary;
+
+        private StringColumn(String name, BitSet nulls, int[] codes, String[] dictionary) {
+            super(name, nulls);
+            this.codes = codes;
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public Type type() {
+            return Type.STRING;
+        }
+
+        @Override
+        public int size() {
+            return codes.length;
+        }
+
+        public int code(int index) {
+            return codes[index];
+        }
+
+        @Override
+        public String get(int index) {
+            int code = codes[index];
+            return code < 0 ? null : dictionary[code];
+        }
+
+        public int[] codes() {
+            return codes;
+        }
+
+        public String[] dictionary() {
+            return dictionary;
+        }
+    }
+
+    private static final class Builder {
+        private final String name;
+        private final Type fixedType;
+
+        /**
+         * 为 null 表示目前只出现过空值，尚未确定类型
+         */
+        private Type type;
+        private int size = 0;
+        private int capacity;
+
+        private long[] longs;
+        private double[] doubles;
+        private int[] codes;
+        private Map<String, Integer> dictionaryIndex;
+        private List<String> dictionary;
+
+        private final BitSet nulls = new BitSet();
+
+        Builder(String name, Type fixedType, int capacity) {
+            this.name = name;
+            this.fixedType = fixedType;
+            this.capacity = Math.max(capacity, 16);
+            if (null != fixedType) {
+                init(fixedType);
+            }
+        }
+
+        void padTo(int row) {
+            while (size < row) {
+                appendNull();
+            }
+        }
+
+        void appendNull() {
+            ensureCapacity();
+            nulls.set(size);
+            if (type == Type.DOUBLE) {
+                doubles[size] = Double.NaN;
+            } else if (type == Type.STRING) {
+                codes[size] = -1;
+            }
+            size++;
+        }
+
+        void appendLong(long value) {
+            if (null == type) {
+                init(Type.LONG);
+            }
+            ensureCapacity();
+            switch (type) {
+                case LONG:
+                    longs[size] = value;
+                    break;
+                case DOUBLE:
+                    doubles[size] = value;
+                    break;
+                default:
+                    codes[size] = code(Long.toString(value));
+            }
+            size++;
+        }
+
+        void appendDouble(double value) {
+            if (null == type) {
+                init(Type.DOUBLE);
+            }
+            if (type == Type.LONG) {
+                if (null != fixedType) {
+                    ensureCapacity();
+                    longs[size++] = (long) value;
+                    return;
+                }
+                promote(Type.DOUBLE);
+            }
+            ensureCapacity();
+            if (type == Type.DOUBLE) {
+                doubles[size] = value;
+            } else {
+                codes[size] = code(Double.toString(value));
+            }
+            size++;
+        }
+
+        void appendString(String value) {
+            if (null == type) {
+                init(Type.STRING);
+            }
+            if (type != Type.STRING) {
+                if (null != fixedType) {
+                    appendParsed(value);
+                    return;
+                }
+                promote(Type.STRING);
+            }
+            ensureCapacity();
+            codes[size++] = code(value);
+        }
+
+        /**
+         * 指定了数值类型的列遇到字符串时尝试解析，解析失败记为空值
+         */
+        private void appendParsed(String value) {
+            try {
+                if (type == Type.LONG) {
+                    long l = Long.parseLong(value.trim());
+                    ensureCapacity();
+                    longs[size++] = l;
+                } else {
+                    double d = Double.parseDouble(value.trim());
+                    ensureCapacity();
+                    doubles[size++] = d;
+                }
+            } catch (NumberFormatException e) {
+                appendNull();
+            }
+        }
+
+        private int code(String value) {
+            Integer code = dictionaryIndex.get(value);
+            if (null == code) {
+                code = dictionary.size();
+                dictionary.add(value);
+                dictionaryIndex.put(value, code);
+            }
+            return code;
+        }
+
+        private void init(Type t) {
+            type = t;
+            capacity = Math.max(capacity, size + 1);
+            switch (t) {
+                case LONG:
+                    longs = new long[capacity];
+                    break;
+                case DOUBLE:
+                    doubles = new double[capacity];
+                    for (int i = 0; i < size; i++) {
+                        doubles[i] = Double.NaN;
+                    }
+                    break;
+                default:
+                    codes = new int[capacity];
+                    Arrays.fill(codes, 0, size, -1);
+                    dictionaryIndex = new HashMap<>();
+                    dictionary = new ArrayList<>();
+            }
+        }
+
+        /**
+         * 提升列类型，已写入的数值转换为目标类型；转换为字符串时按规范格式输出，见类注释
+         */
+        private void promote(Type target) {
+            Type source = type;
+            long[] oldLongs = longs;
+            double[] oldDoubles = doubles;
+            longs = null;
+            doubles = null;
+
+            int n = size;
+            size = 0;
+            init(target);
+            size = n;
+
+            for (int i = 0; i < n; i++) {
+                if (nulls.get(i)) {
+                    if (target == Type.DOUBLE) {
+                        doubles[i] = Double.NaN;
+                    } else {
+                        codes[i] = -1;
+                    }
+                    continue;
+                }
+
+                if (target == Type.DOUBLE) {
+                    doubles[i] = oldLongs[i];
+                } else if (source == Type.LONG) {
+                    codes[i] = code(Long.toString(oldLongs[i]));
+                } else {
+                    codes[i] = code(Double.toString(oldDoubles[i]));
+                }
+            }
+        }
+
+        private void ensureCapacity() {
+            if (size < capacity) {
+                return;
+            }
+
+            capacity = capacity + (capacity >> 1);
+            if (null != longs) {
+                longs = Arrays.copyOf(longs, capacity);
+            }
+            if (null != doubles) {
+                doubles = Arrays.copyOf(doubles, capacity);
+            }
+            if (null != codes) {
+                codes = Arrays.copyOf(codes, capacity);
+            }
+        }
+
+        Column build(int rowCount) {
+            padTo(rowCount);
+            if (null == type) {
+                // 全为空值的列
+                init(null == fixedType ? Type.STRING : fixedType);
+            }
+
+            switch (type) {
+                case LONG:
+                    return new LongColumn(name, nulls, Arrays.copyOf(longs, size));
+                case DOUBLE:
+                    return new DoubleColumn(name, nulls, Arrays.copyOf(doubles, size));
+                default:
+                    return new StringColumn(name, nulls, Arrays.copyOf(codes, size), dictionary.toArray(new String[0]));
+            }
+        }
+    }
+}
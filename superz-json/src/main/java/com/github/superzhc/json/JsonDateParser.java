@@ -0,0 +1,185 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JsonUtils 的日期解析，按格式缓存
+ * <p>
+ * 常用格式（yyyy-MM-dd HH:mm:ss、yyyy-MM-dd'T'HH:mm:ss、yyyy-MM-dd）在文本长度与格式完全一致时直接按位解析，
+ * 否则交给 SimpleDateFormat/DateTimeFormatter，结果与原有实现保持一致
+ *
+ * @author superz
+ * @create 2026/10/18 20:10
+ **/
+final class JsonDateParser {
+    private static final Map<String, JsonDateParser> parsers = new ConcurrentHashMap<>();
+
+    private enum Kind {
+        EPOCH_MILLIS, EPOCH_SECONDS, DATE_TIME, DATE_TIME_T, DATE, GENERIC
+    }
+
+    private final String format;
+    private final Kind kind;
+    /**
+     * DateTimeFormatter 线程安全，可直接共用；SimpleDateFormat 非线程安全，每个线程一份
+     * <p>
+     * 格式不合法时 dateFormat 为 null，date 直接返回 null
+     */
+    private volatile DateTimeFormatter formatter = null;
+    private final ThreadLocal<SimpleDateFormat> dateFormat;
+
+    private JsonDateParser(String format) {
+        this.format = format;
+        this.dateFormat = isValidPattern(format) ? ThreadLocal.withInitial(() -> new SimpleDateFormat(format)) : null;
+
+        if (JsonUtils.EPOCH_MILLIS.equals(format)) {
+            kind = Kind.EPOCH_MILLIS;
+        } else if (JsonUtils.EPOCH_SECONDS.equals(format)) {
+            kind = Kind.EPOCH_SECONDS;
+        } else if ("yyyy-MM-dd HH:mm:ss".equals(format)) {
+            kind = Kind.DATE_TIME;
+        } else if ("yyyy-MM-dd'T'HH:mm:ss".equals(format)) {
+            kind = Kind.DATE_TIME_T;
+        } else if ("yyyy-MM-dd".equals(format)) {
+            kind = Kind.DATE;
+        } else {
+            kind = Kind.GENERIC;
+        }
+    }
+
+    static JsonDateParser of(String format) {
+        JsonDateParser parser = parsers.get(format);
+        if (null == parser) {
+            parser = parsers.computeIfAbsent(format, JsonDateParser::new);
+        }
+        return parser;
+    }
+
+    /**
+     * 解析失败返回 null
+     */
+    Date date(JsonNode node) {
+        if (kind == Kind.EPOCH_MILLIS || kind == Kind.EPOCH_SECONDS) {
+            try {
+                return new Date(epochMillis(node));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        String text = node.asText();
+        LocalDateTime fast = fast(text, true);
+        if (null != fast) {
+            return Date.from(fast.atZone(ZoneId.systemDefault()).toInstant());
+        }
+
+        if (null == dateFormat) {
+            return null;
+        }
+        try {
+            return dateFormat.get().parse(text);
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 解析失败抛出异常
+     */
+    LocalDateTime localDateTime(JsonNode node) {
+        if (kind == Kind.EPOCH_MILLIS || kind == Kind.EPOCH_SECONDS) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis(node)), ZoneId.systemDefault());
+        }
+
+        String text = node.asText();
+        // LocalDateTime 必须包含时间，yyyy-MM-dd 不走快速路径，保持原有的解析异常
+        LocalDateTime fast = fast(text, false);
+        if (null != fast) {
+            return fast;
+        }
+        return LocalDateTime.parse(text, formatter());
+    }
+
+    private static boolean isValidPattern(String format) {
+        try {
+            new SimpleDateFormat(format);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private DateTimeFormatter formatter() {
+        DateTimeFormatter f = formatter;
+        if (null == f) {
+            f = DateTimeFormatter.ofPattern(format);
+            formatter = f;
+        }
+        return f;
+    }
+
+    private long epochMillis(JsonNode node) {
+        long value = node.isNumber() ? node.longValue() : Long.parseLong(node.asText().trim());
+        return kind == Kind.EPOCH_SECONDS ? value * 1000L : value;
+    }
+
+    /**
+     * 按位解析常用格式，格式不符或字段超出范围时返回 null
+     */
+    private LocalDateTime fast(String text, boolean allowDate) {
+        boolean hasTime;
+        if (kind == Kind.DATE_TIME || kind == Kind.DATE_TIME_T) {
+            if (text.length() != 19 || text.charAt(10) != (kind == Kind.DATE_TIME ? ' ' : 'T')
+                    || text.charAt(13) != ':' || text.charAt(16) != ':') {
+                return null;
+            }
+            hasTime = true;
+        } else if (kind == Kind.DATE && allowDate) {
+            if (text.length() != 10) {
+                return null;
+            }
+            hasTime = false;
+        } else {
+            return null;
+        }
+
+        if (text.charAt(4) != '-' || text.charAt(7) != '-') {
+            return null;
+        }
+        int year = digits(text, 0) * 100 + digits(text, 2);
+        int month = digits(text, 5);
+        int day = digits(text, 8);
+        int hour = hasTime ? digits(text, 11) : 0;
+        int minute = hasTime ? digits(text, 14) : 0;
+        int second = hasTime ? digits(text, 17) : 0;
+        // 超出范围的值交给格式化类处理（SimpleDateFormat 默认宽松解析）
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 28 && day > YearMonth.of(year, month).lengthOfMonth()
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalDateTime.of(year, month, day, hour, minute, second);
+    }
+
+    /**
+     * 两位数字，非数字返回负数
+     */
+    private static int digits(String text, int offset) {
+        int high = text.charAt(offset) - '0';
+        int low = text.charAt(offset + 1) - '0';
+        if (high < 0 || high > 9 || low < 0 || low > 9) {
+            return -100000;
+        }
+        return high * 10 + low;
+    }
+}
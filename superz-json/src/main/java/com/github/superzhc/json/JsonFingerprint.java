@@ -0,0 +1,529 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.superzhc.core.collection.LongHashSet;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+/**
+ * json 规范化指纹，用于去重
+ * <p>
+ * 相同语义的 json 得到相同的指纹：
+ * <ul>
+ *     <li>对象的字段顺序不影响结果</li>
+ *     <li>数值按值比较，1、1.0、1e0 视为相同</li>
+ *     <li>JsonNode、token 流、Map/List 三种输入的结果一致</li>
+ * </ul>
+ * 计算过程中不会生成中间字符串，值按类型标记 + 64 位字的序列输入 Murmur3 x64 128 的块运算，64 位指纹取 128 位结果的低位
+ * <p>
+ * 注意：该指纹不等同于对 json 文本计算的 Murmur3，仅用于本工具内部比较
+ *
+ * @author superz
+ * @create 2026/10/18 18:50
+ **/
+public final class JsonFingerprint {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private static final long TAG_NULL = 1L;
+    private static final long TAG_FALSE = 2L;
+    private static final long TAG_TRUE = 3L;
+    private static final long TAG_INTEGER = 4L;
+    private static final long TAG_DOUBLE = 5L;
+    private static final long TAG_DECIMAL = 6L;
+    private static final long TAG_STRING = 7L;
+    private static final long TAG_ARRAY = 8L;
+    private static final long TAG_OBJECT = 9L;
+
+    /**
+     * 每层状态：h1、h2、待处理的字、是否有待处理的字、字数
+     */
+    private static final int SLOT = 5;
+
+    private static final ThreadLocal<JsonFingerprint> local = ThreadLocal.withInitial(JsonFingerprint::new);
+
+    private long[] states = new long[SLOT * 16];
+    private int depth = -1;
+
+    /**
+     * 最近一次计算的结果
+     */
+    private long r1;
+    private long r2;
+
+    private JsonFingerprint() {
+    }
+
+    //region===================================对外接口===================================================================
+    public static long hash64(JsonNode node) {
+        JsonFingerprint fingerprint = local.get();
+        fingerprint.reset().node(node);
+        return fingerprint.r1;
+    }
+
+    public static long[] hash128(JsonNode node) {
+        JsonFingerprint fingerprint = local.get();
+        fingerprint.reset().node(node);
+        return new long[]{fingerprint.r1, fingerprint.r2};
+    }
+
+    /**
+     * 直接对 Map、List、数组、基本类型等 Java 对象计算指纹，无需先转换成 JsonNode
+     *
+     * @param value
+     * @return
+     */
+    public static long hash64(Object value) {
+        JsonFingerprint fingerprint = local.get();
+        fingerprint.reset().value(value);
+        return fingerprint.r1;
+    }
+
+    public static long[] hash128(Object value) {
+        JsonFingerprint fingerprint = local.get();
+        fingerprint.reset().value(value);
+        return new long[]{fingerprint.r1, fingerprint.r2};
+    }
+
+    /**
+     * 对 token 流中的当前值计算指纹，计算结束后 parser 位于该值的最后一个 token 上
+     * <p>
+     * 若 parser 尚未读取任何 token，则先读取下一个 token
+     *
+     * @param parser
+     * @return
+     */
+    public static long hash64(JsonParser parser) {
+        JsonFingerprint fingerprint = local.get();
+        fingerprint.reset().token(parser);
+        return fingerprint.r1;
+    }
+
+    public static long[] hash128(JsonParser parser) {
+        JsonFingerprint fingerprint = local.get();
+        fingerprint.reset().token(parser);
+        return new long[]{fingerprint.r1, fingerprint.r2};
+    }
+
+    /**
+     * 按指纹去重，保留首次出现的元素
+     *
+     * @param values 元素可为 JsonNode 或 Map/List 等对象
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> distinct(Iterable<T> values) {
+        LongHashSet seen = new LongHashSet();
+        List<T> result = new ArrayList<>();
+        for (T value : values) {
+            if (seen.add(hash64(value))) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+    //endregion================================对外接口===================================================================
+
+    //region===================================值遍历===================================================================
+    private JsonFingerprint reset() {
+        depth = -1;
+        return this;
+    }
+
+    private void node(JsonNode node) {
+        begin();
+        if (null == node || node.isNull() || node.isMissingNode()) {
+            word(TAG_NULL);
+        } else if (node.isObject()) {
+            word(TAG_OBJECT);
+            long sum1 = 0L, sum2 = 0L;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                begin();
+                chars(field.getKey());
+                node(field.getValue());
+                word(r1);
+                word(r2);
+                end();
+                sum1 += r1;
+                sum2 += r2;
+            }
+            word(sum1);
+            word(sum2);
+            word(node.size());
+        } else if (node.isArray()) {
+            word(TAG_ARRAY);
+            for (JsonNode item : node) {
+                node(item);
+                word(r1);
+                word(r2);
+            }
+            word(node.size());
+        } else if (node.isTextual()) {
+            chars(node.textValue());
+        } else if (node.isBoolean()) {
+            word(node.booleanValue() ? TAG_TRUE : TAG_FALSE);
+        } else if (node.isNumber()) {
+            if (node.isIntegralNumber()) {
+                if (node.canConvertToLong()) {
+                    integer(node.longValue());
+                } else {
+                    decimal(new BigDecimal(node.bigIntegerValue()));
+                }
+            } else if (node.isBigDecimal()) {
+                decimal(node.decimalValue());
+            } else {
+                floating(node.doubleValue());
+            }
+        } else {
+            // 二进制、POJO 等节点按文本处理
+            chars(node.asText());
+        }
+        end();
+    }
+
+    private void value(Object value) {
+        if (value instanceof JsonNode) {
+            node((JsonNode) value);
+            return;
+        }
+        if (!plain(value)) {
+            // 其他对象（日期、Bean、基本类型数组等）按序列化结果计算
+            node(JsonUtils.toNode(value));
+            return;
+        }
+
+        begin();
+        if (null == value) {
+            word(TAG_NULL);
+        } else if (value instanceof CharSequence) {
+            chars((CharSequence) value);
+        } else if (value instanceof Character) {
+            chars(String.valueOf(value));
+        } else if (value instanceof Boolean) {
+            word((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            integer(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            floating(((Number) value).doubleValue());
+        } else if (value instanceof BigDecimal) {
+            decimal((BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            BigInteger bigInteger = (BigInteger) value;
+            if (bigInteger.bitLength() < 64) {
+                integer(bigInteger.longValue());
+            } else {
+                decimal(new BigDecimal(bigInteger));
+            }
+        } else if (value instanceof Map) {
+            word(TAG_OBJECT);
+            long sum1 = 0L, sum2 = 0L;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                begin();
+                chars(String.valueOf(entry.getKey()));
+                value(entry.getValue());
+                word(r1);
+                word(r2);
+                end();
+                sum1 += r1;
+                sum2 += r2;
+            }
+            word(sum1);
+            word(sum2);
+            word(((Map<?, ?>) value).size());
+        } else if (value instanceof Collection) {
+            word(TAG_ARRAY);
+            for (Object item : (Collection<?>) value) {
+                value(item);
+                word(r1);
+                word(r2);
+            }
+            word(((Collection<?>) value).size());
+        } else if (value instanceof Object[]) {
+            word(TAG_ARRAY);
+            for (Object item : (Object[]) value) {
+                value(item);
+                word(r1);
+                word(r2);
+            }
+            word(((Object[]) value).length);
+        }
+        end();
+    }
+
+    private static boolean plain(Object value) {
+        return null == value
+                || value instanceof CharSequence || value instanceof Character || value instanceof Boolean
+                || value instanceof Number && (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof Double || value instanceof Float || value instanceof BigDecimal || value instanceof BigInteger)
+                || value instanceof Map || value instanceof Collection || value instanceof Object[];
+    }
+
+    private void token(JsonParser parser) {
+        try {
+            JsonToken token = parser.currentToken();
+            if (null == token) {
+                token = parser.nextToken();
+            }
+            token(parser, token);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void token(JsonParser parser, JsonToken token) throws IOException {
+        if (null == token) {
+            throw new RuntimeException("json 内容不完整");
+        }
+
+        begin();
+        switch (token) {
+            case START_OBJECT: {
+                word(TAG_OBJECT);
+                long sum1 = 0L, sum2 = 0L;
+                long size = 0L;
+                while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                    begin();
+                    chars(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                    token(parser, parser.nextToken());
+                    word(r1);
+                    word(r2);
+                    end();
+                    sum1 += r1;
+                    sum2 += r2;
+                    size++;
+                }
+                word(sum1);
+                word(sum2);
+                word(size);
+                break;
+            }
+            case START_ARRAY: {
+                word(TAG_ARRAY);
+                long size = 0L;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    token(parser, token);
+                    word(r1);
+                    word(r2);
+                    size++;
+                }
+                word(size);
+                break;
+            }
+            case VALUE_STRING:
+                chars(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                break;
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    decimal(new BigDecimal(parser.getBigIntegerValue()));
+                } else {
+                    integer(parser.getLongValue());
+                }
+                break;
+            case VALUE_NUMBER_FLOAT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL) {
+                    decimal(parser.getDecimalValue());
+                } else {
+                    floating(parser.getDoubleValue());
+                }
+                break;
+            case VALUE_TRUE:
+                word(TAG_TRUE);
+                break;
+            case VALUE_FALSE:
+                word(TAG_FALSE);
+                break;
+            case VALUE_NULL:
+                word(TAG_NULL);
+                break;
+            default:
+                // VALUE_EMBEDDED_OBJECT 等
+                chars(parser.getText());
+        }
+        end();
+    }
+    //endregion================================值遍历===================================================================
+
+    //region===================================规范化===================================================================
+    private void integer(long value) {
+        word(TAG_INTEGER);
+        word(value);
+    }
+
+    private void floating(double value) {
+        long l = (long) value;
+        if (l == value && l != Long.MAX_VALUE && l != Long.MIN_VALUE) {
+            // 整数值的浮点数与整数视为相同，-0.0 也归入 0
+            integer(l);
+        } else {
+            word(TAG_DOUBLE);
+            word(Double.doubleToLongBits(value));
+        }
+    }
+
+    private void decimal(BigDecimal value) {
+        BigDecimal stripped = value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+        if (stripped.scale() <= 0 && stripped.precision() - stripped.scale() <= 19) {
+            try {
+                integer(stripped.longValueExact());
+                return;
+            } catch (ArithmeticException e) {
+                // 超出 long 范围
+            }
+        }
+
+        double d = stripped.doubleValue();
+        if (!Double.isInfinite(d) && BigDecimal.valueOf(d).compareTo(stripped) == 0) {
+            // 可被 double 精确表示的小数与 double 视为相同
+            floating(d);
+            return;
+        }
+
+        word(TAG_DECIMAL);
+        word(stripped.scale());
+        for (byte b : stripped.unscaledValue().toByteArray()) {
+            word(b);
+        }
+    }
+
+    private void chars(CharSequence s) {
+        word(TAG_STRING);
+        int length = s.length();
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            word(s.charAt(i) | (long) s.charAt(i + 1) << 16 | (long) s.charAt(i + 2) << 32 | (long) s.charAt(i + 3) << 48);
+        }
+        if (i < length) {
+            long k = 0L;
+            for (int shift = 0; i < length; i++, shift += 16) {
+                k |= (long) s.charAt(i) << shift;
+            }
+            word(k);
+        }
+        word(length);
+    }
+
+    /**
+     * 与 {@link #chars(CharSequence)} 结果一致
+     */
+    private void chars(char[] s, int offset, int length) {
+        word(TAG_STRING);
+        int end = offset + length;
+        int i = offset;
+        for (; i + 4 <= end; i += 4) {
+            word(s[i] | (long) s[i + 1] << 16 | (long) s[i + 2] << 32 | (long) s[i + 3] << 48);
+        }
+        if (i < end) {
+            long k = 0L;
+            for (int shift = 0; i < end; i++, shift += 16) {
+                k |= (long) s[i] << shift;
+            }
+            word(k);
+        }
+        word(length);
+    }
+    //endregion================================规范化===================================================================
+
+    //region===================================Murmur3===================================================================
+    private void begin() {
+        depth++;
+        int base = depth * SLOT;
+        if (base + SLOT > states.length) {
+            states = Arrays.copyOf(states, states.length * 2);
+        }
+        states[base] = 0L;
+        states[base + 1] = 0L;
+        states[base + 2] = 0L;
+        states[base + 3] = 0L;
+        states[base + 4] = 0L;
+    }
+
+    /**
+     * 每两个字组成一个 128 位块
+     */
+    private void word(long k) {
+        long[] s = states;
+        int base = depth * SLOT;
+        s[base + 4]++;
+        if (s[base + 3] == 0L) {
+            s[base + 2] = k;
+            s[base + 3] = 1L;
+            return;
+        }
+
+        long k1 = s[base + 2];
+        long k2 = k;
+        s[base + 3] = 0L;
+
+        long h1 = s[base];
+        long h2 = s[base + 1];
+
+        h1 ^= mixK1(k1);
+        h1 = Long.rotateLeft(h1, 27);
+        h1 += h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        h2 ^= mixK2(k2);
+        h2 = Long.rotateLeft(h2, 31);
+        h2 += h1;
+        h2 = h2 * 5 + 0x38495ab5;
+
+        s[base] = h1;
+        s[base + 1] = h2;
+    }
+
+    private void end() {
+        long[] s = states;
+        int base = depth * SLOT;
+        long h1 = s[base];
+        long h2 = s[base + 1];
+        if (s[base + 3] != 0L) {
+            h1 ^= mixK1(s[base + 2]);
+        }
+
+        long length = s[base + 4] * 8L;
+        h1 ^= length;
+        h2 ^= length;
+
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+
+        r1 = h1;
+        r2 = h2;
+        depth--;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        return k2;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+    //endregion================================Murmur3===================================================================
+}
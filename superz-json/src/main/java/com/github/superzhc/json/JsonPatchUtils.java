@@ -0,0 +1,385 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.superzhc.core.collection.LongObjectMap;
+
+import java.util.*;
+
+/**
+ * 结构化 diff，生成和应用 RFC 6902 JSON Patch
+ * <p>
+ * 先自底向上计算每个子树的结构哈希，哈希不同的子树必然不同，无需再做完整的 equals 比较；
+ * 数组元素按哈希匹配，取匹配位置的最长递增子序列作为不变的锚点，避免两两比较带来的平方复杂度
+ *
+ * @author superz
+ * @create 2026/10/18 18:30
+ **/
+public class JsonPatchUtils {
+    private static final JsonNodeFactory factory = JsonNodeFactory.instance;
+    /**
+     * test 操作的比较规则（RFC 6902 4.6）：数值按数学值比较，1、1.0、1e0 相等；容器节点逐个子节点递归使用该规则
+     */
+    private static final Comparator<JsonNode> NUMERIC_EQUALITY = (a, b) -> {
+        if (a.isNumber() && b.isNumber()) {
+            return a.decimalValue().compareTo(b.decimalValue());
+        }
+        return a.equals(b) ? 0 : 1;
+    };
+
+    //region===================================diff===================================================================
+
+    /**
+     * 生成将 source 转换成 target 的 JSON Patch
+     *
+     * @param source
+     * @param target
+     * @return
+     */
+    public static ArrayNode diff(JsonNode source, JsonNode target) {
+        ArrayNode patch = factory.arrayNode();
+        Map<JsonNode, Long> hashes = new IdentityHashMap<>();
+        diff(patch, "", source, target, hashes);
+        return patch;
+    }
+
+    private static void diff(ArrayNode patch, String path, JsonNode source, JsonNode target, Map<JsonNode, Long> hashes) {
+        if (same(source, target, hashes)) {
+            return;
+        }
+
+        if (source.isObject() && target.isObject()) {
+            diffObject(patch, path, source, target, hashes);
+        } else if (source.isArray() && target.isArray()) {
+            diffArray(patch, path, source, target, hashes);
+        } else {
+            patch.add(op("replace", path, target));
+        }
+    }
+
+    private static void diffObject(ArrayNode patch, String path, JsonNode source, JsonNode target, Map<JsonNode, Long> hashes) {
+        Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String fieldPath = path + "/" + escape(field.getKey());
+            JsonNode targetValue = target.get(field.getKey());
+            if (null == targetValue) {
+                patch.add(op("remove", fieldPath, null));
+            } else {
+                diff(patch, fieldPath, field.getValue(), targetValue, hashes);
+            }
+        }
+
+        fields = target.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!source.has(field.getKey())) {
+                patch.add(op("add", path + "/" + escape(field.getKey()), field.getValue()));
+            }
+        }
+    }
+
+    private static void diffArray(ArrayNode patch, String path, JsonNode source, JsonNode target, Map<JsonNode, Long> hashes) {
+        int sourceSize = source.size();
+        int targetSize = target.size();
+
+        // 去掉相同的前缀和后缀
+        int prefix = 0;
+        while (prefix < sourceSize && prefix < targetSize && same(source.get(prefix), target.get(prefix), hashes)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < sourceSize - prefix && suffix < targetSize - prefix
+                && same(source.get(sourceSize - 1 - suffix), target.get(targetSize - 1 - suffix), hashes)) {
+            suffix++;
+        }
+
+        int sourceEnd = sourceSize - suffix;
+        int targetEnd = targetSize - suffix;
+
+        // 中间部分按哈希匹配：哈希 -> target 中的位置队列
+        LongObjectMap<Deque<Integer>> targetIndexes = new LongObjectMap<>(targetEnd - prefix);
+        for (int j = prefix; j < targetEnd; j++) {
+            targetIndexes.computeIfAbsent(hash(target.get(j), hashes), k -> new ArrayDeque<>()).addLast(j);
+        }
+        int[] matches = new int[sourceEnd - prefix];
+        for (int i = prefix; i < sourceEnd; i++) {
+            matches[i - prefix] = -1;
+            Deque<Integer> candidates = targetIndexes.get(hash(source.get(i), hashes));
+            if (null != candidates) {
+                for (Iterator<Integer> it = candidates.iterator(); it.hasNext(); ) {
+                    int j = it.next();
+                    if (source.get(i).equals(target.get(j))) {
+                        matches[i - prefix] = j;
+                        it.remove();
+                        break;
+                    }
+                }
+            }
+        }
+
+        // 匹配位置的最长递增子序列作为锚点，锚点之间的元素逐一处理
+        int[] anchors = longestIncreasing(matches);
+
+        int position = prefix;
+        int sourceCursor = prefix;
+        int targetCursor = prefix;
+        for (int k = 0; k <= anchors.length; k++) {
+            int sourceStop = k < anchors.length ? prefix + anchors[k] : sourceEnd;
+            int targetStop = k < anchors.length ? matches[anchors[k]] : targetEnd;
+
+            int sourceGap = sourceStop - sourceCursor;
+            int targetGap = targetStop - targetCursor;
+            int paired = Math.min(sourceGap, targetGap);
+            for (int m = 0; m < paired; m++) {
+                diff(patch, path + "/" + position, source.get(sourceCursor + m), target.get(targetCursor + m), hashes);
+                position++;
+            }
+            for (int m = paired; m < sourceGap; m++) {
+                patch.add(op("remove", path + "/" + position, null));
+            }
+            for (int m = paired; m < targetGap; m++) {
+                patch.add(op("add", path + "/" + position, target.get(targetCursor + m)));
+                position++;
+            }
+
+            if (k < anchors.length) {
+                // 锚点本身无变化
+                position++;
+            }
+            sourceCursor = sourceStop + 1;
+            targetCursor = targetStop + 1;
+        }
+    }
+
+    /**
+     * 最长递增子序列（忽略 -1），返回其在 values 中的下标
+     */
+    private static int[] longestIncreasing(int[] values) {
+        int n = values.length;
+        int[] tails = new int[n];
+        int[] previous = new int[n];
+        int length = 0;
+        for (int i = 0; i < n; i++) {
+            if (values[i] < 0) {
+                continue;
+            }
+
+            int low = 0, high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[tails[mid]] < values[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        int[] result = new int[length];
+        for (int k = length - 1, i = length > 0 ? tails[length - 1] : -1; k >= 0; k--, i = previous[i]) {
+            result[k] = i;
+        }
+        return result;
+    }
+
+    private static boolean same(JsonNode source, JsonNode target, Map<JsonNode, Long> hashes) {
+        if (source == target) {
+            return true;
+        }
+        return hash(source, hashes) == hash(target, hashes) && source.equals(target);
+    }
+
+    /**
+     * 结构哈希，与 JsonNode.equals 保持一致：对象的字段顺序不影响哈希
+     */
+    private static long hash(JsonNode node, Map<JsonNode, Long> hashes) {
+        Long cached = hashes.get(node);
+        if (null != cached) {
+            return cached;
+        }
+
+        long h;
+        if (node.isObject()) {
+            h = 0x9E3779B97F4A7C15L;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                h += mix(field.getKey().hashCode() * 31L + hash(field.getValue(), hashes));
+            }
+        } else if (node.isArray()) {
+            h = 0xC2B2AE3D27D4EB4FL;
+            for (JsonNode item : node) {
+                h = h * 31 + hash(item, hashes);
+            }
+        } else {
+            h = node.hashCode();
+        }
+
+        h = mix(h);
+        hashes.put(node, h);
+        return h;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static ObjectNode op(String op, String path, JsonNode value) {
+        ObjectNode node = factory.objectNode();
+        node.put("op", op);
+        node.put("path", path);
+        if (null != value) {
+            node.set("value", value.deepCopy());
+        }
+        return node;
+    }
+
+    private static String escape(String key) {
+        if (key.indexOf('~') < 0 && key.indexOf('/') < 0) {
+            return key;
+        }
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+    //endregion================================diff===================================================================
+
+    //region===================================patch===================================================================
+
+    /**
+     * 在原节点上应用 JSON Patch
+     *
+     * @param node
+     * @param patch
+     * @return 应用后的节点，除替换根节点的情况外即为传入的 node
+     */
+    public static JsonNode apply(JsonNode node, JsonNode patch) {
+        JsonNode root = node;
+        for (JsonNode operation : patch) {
+            String op = operation.path("op").asText();
+            String path = operation.path("path").asText();
+            switch (op) {
+                case "add":
+                    root = add(root, path, value(operation, op, path).deepCopy());
+                    break;
+                case "remove":
+                    root = remove(root, path);
+                    break;
+                case "replace":
+                    root = remove(root, path);
+                    root = add(root, path, value(operation, op, path).deepCopy());
+                    break;
+                case "move": {
+                    String from = operation.path("from").asText();
+                    JsonNode value = get(root, from);
+                    root = remove(root, from);
+                    root = add(root, path, value);
+                    break;
+                }
+                case "copy": {
+                    String from = operation.path("from").asText();
+                    root = add(root, path, get(root, from).deepCopy());
+                    break;
+                }
+                case "test":
+                    if (!get(root, path).equals(NUMERIC_EQUALITY, value(operation, op, path))) {
+                        throw new RuntimeException("JSON Patch test 失败：" + path);
+                    }
+                    break;
+                default:
+                    throw new RuntimeException("不支持的 JSON Patch 操作：" + op);
+            }
+        }
+        return root;
+    }
+
+    private static JsonNode value(JsonNode operation, String op, String path) {
+        JsonNode value = operation.get("value");
+        if (null == value) {
+            throw new RuntimeException("JSON Patch " + op + " 操作缺少 value：" + path);
+        }
+        return value;
+    }
+
+    private static JsonNode get(JsonNode root, String path) {
+        JsonNode value = root.at(path);
+        if (value.isMissingNode()) {
+            throw new RuntimeException("JSON Patch 路径不存在：" + path);
+        }
+        return value;
+    }
+
+    private static JsonNode add(JsonNode root, String path, JsonNode value) {
+        if (path.isEmpty()) {
+            return value;
+        }
+
+        JsonPointer pointer = JsonPointer.compile(path);
+        JsonNode parent = parent(root, pointer, path);
+        String name = pointer.last().getMatchingProperty();
+        if (parent.isObject()) {
+            ((ObjectNode) parent).set(name, value);
+        } else {
+            ArrayNode array = (ArrayNode) parent;
+            if ("-".equals(name)) {
+                array.add(value);
+            } else {
+                int index = index(name, array.size(), path);
+                array.insert(index, value);
+            }
+        }
+        return root;
+    }
+
+    private static JsonNode remove(JsonNode root, String path) {
+        if (path.isEmpty()) {
+            return factory.nullNode();
+        }
+
+        JsonPointer pointer = JsonPointer.compile(path);
+        JsonNode parent = parent(root, pointer, path);
+        String name = pointer.last().getMatchingProperty();
+        if (parent.isObject()) {
+            if (null == ((ObjectNode) parent).remove(name)) {
+                throw new RuntimeException("JSON Patch 路径不存在：" + path);
+            }
+        } else {
+            ArrayNode array = (ArrayNode) parent;
+            array.remove(index(name, array.size() - 1, path));
+        }
+        return root;
+    }
+
+    private static JsonNode parent(JsonNode root, JsonPointer pointer, String path) {
+        JsonNode parent = root.at(pointer.head());
+        if (!parent.isContainerNode()) {
+            throw new RuntimeException("JSON Patch 路径不存在：" + path);
+        }
+        return parent;
+    }
+
+    private static int index(String name, int max, String path) {
+        try {
+            int index = Integer.parseInt(name);
+            if (index < 0 || index > max) {
+                throw new RuntimeException("JSON Patch 数组下标越界：" + path);
+            }
+            return index;
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("JSON Patch 数组下标不合法：" + path);
+        }
+    }
+    //endregion================================patch===================================================================
+}
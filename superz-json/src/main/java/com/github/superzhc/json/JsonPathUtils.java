@@ -0,0 +1,107 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.superzhc.core.cache.Cache;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JsonPath 支持
+ * <p>
+ * 表达式编译后缓存；查询直接作用于已解析的 JsonNode，不会重新解析文档；多个表达式可共用同一个文档上下文一次求值
+ * <p>
+ * 路径不存在时返回 null，不抛出异常；不定路径（通配符、过滤器、深度扫描）没有匹配时返回空数组
+ * <p>
+ * length()、sum() 等函数的结果不是节点，统一转换成 JsonNode 返回
+ *
+ * @author superz
+ * @create 2026/10/18 17:55
+ **/
+public class JsonPathUtils {
+    private static final Configuration configuration = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider(JsonUtils.mapper()))
+            .mappingProvider(new JacksonMappingProvider(JsonUtils.mapper()))
+            .options(Option.SUPPRESS_EXCEPTIONS)
+            .build();
+
+    /**
+     * 2026年10月18日 改为有界缓存，动态拼接的表达式不会无限占用内存
+     */
+    private static final Cache<String, JsonPath> paths = Cache.newBuilder().maximumSize(1024).build();
+
+    public static Configuration configuration() {
+        return configuration;
+    }
+
+    /**
+     * 编译表达式，结果会被缓存
+     *
+     * @param path
+     * @return
+     */
+    public static JsonPath compile(String path) {
+        return paths.get(path, JsonPath::compile);
+    }
+
+    public static JsonNode read(JsonNode node, String path) {
+        return node(compile(path).read(node, configuration));
+    }
+
+    public static <T> T read(JsonNode node, String path, Class<T> clazz) {
+        return context(node).read(compile(path), clazz);
+    }
+
+    /**
+     * 对同一个文档执行多个表达式
+     *
+     * @param node
+     * @param paths
+     * @return key 为表达式，value 为查询结果
+     */
+    public static Map<String, JsonNode> read(JsonNode node, String... paths) {
+        DocumentContext context = context(node);
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+        for (String path : paths) {
+            result.put(path, node(context.read(compile(path))));
+        }
+        return result;
+    }
+
+    /**
+     * 对同一个文档执行一组命名的表达式，适用于按规则提取字段
+     *
+     * @param node
+     * @param rules key 为结果名称，value 为表达式
+     * @return key 为结果名称，value 为查询结果
+     */
+    public static Map<String, JsonNode> read(JsonNode node, Map<String, String> rules) {
+        DocumentContext context = context(node);
+        Map<String, JsonNode> result = new LinkedHashMap<>();
+        for (Map.Entry<String, String> rule : rules.entrySet()) {
+            result.put(rule.getKey(), node(context.read(compile(rule.getValue()))));
+        }
+        return result;
+    }
+
+    private static JsonNode node(Object value) {
+        if (null == value || value instanceof JsonNode) {
+            return (JsonNode) value;
+        }
+        return JsonUtils.toNode(value);
+    }
+
+    public static DocumentContext context(JsonNode node) {
+        return JsonPath.parse(node, configuration);
+    }
+
+    public static void clearCache() {
+        paths.invalidateAll();
+    }
+}
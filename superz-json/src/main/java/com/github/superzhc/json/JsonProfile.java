@@ -0,0 +1,185 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * ObjectMapper 配置方案，每个方案持有预先构建好的 ObjectReader/ObjectWriter
+ * <ul>
+ *     <li>LENIENT：宽松解析，允许未带引号的字段名和单引号，JsonUtils 默认使用该方案</li>
+ *     <li>STRICT：严格解析，关闭宽松特性，适用于受信任的内部数据，解析更快</li>
+ *     <li>CANONICAL：规范化输出，Map 的 key 和 Bean 的属性按字母序输出，用于比较和签名</li>
+ * </ul>
+ * 通过 {@method create} 可以指定 JsonFactory（如 Smile、CBOR 等二进制格式）构建方案
+ *
+ * @author superz
+ * @create 2026/10/18 15:10
+ **/
+public class JsonProfile {
+    private static final Logger log = LoggerFactory.getLogger(JsonProfile.class);
+
+    public static final JsonProfile LENIENT = create(new JsonFactory(), true, false);
+
+    public static final JsonProfile STRICT = create(new JsonFactory(), false, false);
+
+    public static final JsonProfile CANONICAL = create(new JsonFactory(), false, true);
+
+    private final ObjectMapper mapper;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final boolean canonical;
+
+    private JsonProfile(ObjectMapper mapper, boolean canonical) {
+        this.mapper = mapper;
+        this.reader = mapper.reader();
+        this.writer = mapper.writer();
+        this.canonical = canonical;
+    }
+
+    /**
+     * @param factory   解析/生成所用的 JsonFactory
+     * @param lenient   是否允许未带引号的字段名和单引号
+     * @param canonical 是否按 key 排序输出
+     * @return
+     */
+    public static JsonProfile create(JsonFactory factory, boolean lenient, boolean canonical) {
+        ObjectMapper mapper = new ObjectMapper(factory);
+
+        //2022年12月6日 提供对Java8 LocalDate、LocalTime、LocalDateTime支持
+        // 日期和时间格式化
+        JavaTimeModule javaTimeModule = new JavaTimeModule();
+        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        javaTimeModule.addSerializer(LocalTime.class, new LocalTimeSerializer(DateTimeFormatter.ofPattern("HH:mm:ss")));
+        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        javaTimeModule.addDeserializer(LocalDate.class, new LocalDateDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeDeserializer(DateTimeFormatter.ofPattern("HH:mm:ss")));
+        mapper.registerModule(javaTimeModule);
+
+        if (lenient) {
+            //允许使用未带引号的字段名
+            mapper.configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true);
+            //允许使用单引号
+            mapper.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
+        } else {
+            // 异常信息中不保留数据源的引用
+            mapper.configure(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION, false);
+        }
+        // 忽略json字符串中不识别的属性
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // 忽略无法转换的对象
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+
+        if (canonical) {
+            mapper.configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+            mapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+            mapper.configure(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN, true);
+        }
+
+        // mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        // 日期类型字符串处理，jackson 在每次序列化/反序列化时会克隆该对象，不存在线程安全问题
+        mapper.setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"));
+
+        // 2026年10月18日 若引入了 jackson-module-afterburner，注册后 Bean 的绑定使用生成的字节码代替反射
+        registerOptionalModule(mapper, "com.fasterxml.jackson.module.afterburner.AfterburnerModule");
+
+        return new JsonProfile(mapper, canonical);
+    }
+
+    private static void registerOptionalModule(ObjectMapper mapper, String moduleClassName) {
+        try {
+            Class<?> moduleClass = Class.forName(moduleClassName);
+            mapper.registerModule((Module) moduleClass.newInstance());
+        } catch (ClassNotFoundException e) {
+            // 未引入依赖，不做处理
+        } catch (Exception e) {
+            log.warn("注册模块【{}】失败", moduleClassName, e);
+        }
+    }
+
+    public ObjectMapper mapper() {
+        return mapper;
+    }
+
+    public JsonFactory factory() {
+        return mapper.getFactory();
+    }
+
+    public ObjectReader reader() {
+        return reader;
+    }
+
+    public ObjectWriter writer() {
+        return writer;
+    }
+
+    public JsonNode readTree(String content) {
+        try {
+            return reader.readTree(content);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public JsonNode readTree(byte[] content) {
+        try {
+            return reader.readTree(content);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public JsonNode readTree(InputStream in) {
+        try {
+            return reader.readTree(in);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public String asString(Object value) {
+        try {
+            return writer.writeValueAsString(canonicalValue(value));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public byte[] asBytes(Object value) {
+        try {
+            return writer.writeValueAsBytes(canonicalValue(value));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * ObjectNode 输出时不受 ORDER_MAP_ENTRIES_BY_KEYS 影响，规范化输出时先转换成 Map 再排序
+     */
+    private Object canonicalValue(Object value) throws IOException {
+        if (canonical && value instanceof JsonNode) {
+            return mapper.treeToValue((JsonNode) value, Object.class);
+        }
+        return value;
+    }
+}
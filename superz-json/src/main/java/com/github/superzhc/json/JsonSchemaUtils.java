@@ -0,0 +1,211 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.superzhc.core.cache.Cache;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaException;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SchemaValidatorsConfig;
+import com.networknt.schema.SpecVersion;
+import com.networknt.schema.ValidationMessage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * json schema 校验
+ * <p>
+ * schema 编译后按内容缓存，同一个 schema 只编译一次；failFast 为 true 时遇到第一个错误即停止校验
+ *
+ * @author superz
+ * @create 2026/10/18 17:20
+ **/
+public class JsonSchemaUtils {
+    /**
+     * 未指定版本时默认使用 draft-07
+     */
+    public static final SpecVersion.VersionFlag DEFAULT_VERSION = SpecVersion.VersionFlag.V7;
+
+    private static final Map<SpecVersion.VersionFlag, JsonSchemaFactory> factories = new ConcurrentHashMap<>();
+
+    /**
+     * key 为：版本 + failFast + schema 内容
+     * <p>
+     * 2026年10月18日 改为有界缓存，按 schema 内容总长度限制，避免大量不同的 schema 常驻内存
+     */
+    private static final Cache<String, JsonSchema> schemas = Cache.newBuilder()
+            .maximumWeight(16 * 1024 * 1024)
+            .weigher((String key, JsonSchema value) -> key.length())
+            .build();
+
+    public static JsonSchema compile(String schema) {
+        return compile(schema, DEFAULT_VERSION, false);
+    }
+
+    /**
+     * 编译 schema，结果会被缓存
+     *
+     * @param schema
+     * @param version
+     * @param failFast
+     * @return
+     */
+    public static JsonSchema compile(String schema, SpecVersion.VersionFlag version, boolean failFast) {
+        String key = version.name() + ":" + failFast + ":" + schema;
+        return schemas.get(key, k -> compile(JsonUtils.loads(schema), version, failFast));
+    }
+
+    /**
+     * 编译 schema，不缓存
+     *
+     * @param schema
+     * @param version
+     * @param failFast
+     * @return
+     */
+    public static JsonSchema compile(JsonNode schema, SpecVersion.VersionFlag version, boolean failFast) {
+        SchemaValidatorsConfig config = new SchemaValidatorsConfig();
+        config.setFailFast(failFast);
+        return factory(version).getSchema(schema, config);
+    }
+
+    public static void clearCache() {
+        schemas.invalidateAll();
+    }
+
+    public static Result validate(String schema, JsonNode node) {
+        return validate(compile(schema), node);
+    }
+
+    public static Result validate(String schema, JsonNode node, boolean failFast) {
+        return validate(compile(schema, DEFAULT_VERSION, failFast), node);
+    }
+
+    public static Result validate(JsonSchema schema, JsonNode node) {
+        long start = System.nanoTime();
+        List<String> errors = validate0(schema, node);
+        return new Result(1, errors.isEmpty() ? -1 : 0, errors, System.nanoTime() - start);
+    }
+
+    /**
+     * 流式校验数组中的每个元素，文档不会整体加载到内存中
+     *
+     * @param schema
+     * @param in
+     * @param failFast 为 true 时遇到第一个不合法的元素即停止
+     * @param paths    数组所在的路径
+     * @return
+     */
+    public static Result validateEach(String schema, InputStream in, boolean failFast, Object... paths) {
+        return validateEach(compile(schema, DEFAULT_VERSION, failFast), in, failFast, paths);
+    }
+
+    public static Result validateEach(JsonSchema schema, InputStream in, boolean failFast, Object... paths) {
+        long start = System.nanoTime();
+        long count = 0L;
+        long firstInvalidIndex = -1L;
+        List<String> errors = new ArrayList<>();
+
+        try (JsonArrayIterator<JsonNode> iterator = JsonUtils.iterator(in, JsonNode.class, paths)) {
+            while (iterator.hasNext()) {
+                JsonNode item = iterator.next();
+                List<String> itemErrors = validate0(schema, null == item ? JsonUtils.toNode(null) : item);
+                if (!itemErrors.isEmpty()) {
+                    if (firstInvalidIndex < 0) {
+                        firstInvalidIndex = count;
+                    }
+                    for (String error : itemErrors) {
+                        errors.add("[" + count + "]" + error);
+                    }
+                }
+                count++;
+
+                if (failFast && firstInvalidIndex >= 0) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Result(count, firstInvalidIndex, errors, System.nanoTime() - start);
+    }
+
+    private static List<String> validate0(JsonSchema schema, JsonNode node) {
+        List<String> errors = new ArrayList<>();
+        try {
+            Set<ValidationMessage> messages = schema.validate(node);
+            for (ValidationMessage message : messages) {
+                errors.add(message.getMessage());
+            }
+        } catch (JsonSchemaException e) {
+            // failFast 模式下第一个错误以异常的形式抛出
+            errors.add(e.getMessage());
+        }
+        return errors;
+    }
+
+    private static JsonSchemaFactory factory(SpecVersion.VersionFlag version) {
+        JsonSchemaFactory factory = factories.get(version);
+        if (null == factory) {
+            factory = factories.computeIfAbsent(version, v -> JsonSchemaFactory.builder(JsonSchemaFactory.getInstance(v))
+                    .objectMapper(JsonUtils.mapper())
+                    .build());
+        }
+        return factory;
+    }
+
+    public static class Result {
+        private final long count;
+        private final long firstInvalidIndex;
+        private final List<String> errors;
+        private final long elapsedNanos;
+
+        private Result(long count, long firstInvalidIndex, List<String> errors, long elapsedNanos) {
+            this.count = count;
+            this.firstInvalidIndex = firstInvalidIndex;
+            this.errors = Collections.unmodifiableList(errors);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+
+        /**
+         * 已校验的文档数
+         *
+         * @return
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * 第一个不合法文档的序号，全部合法返回 -1
+         *
+         * @return
+         */
+        public long firstInvalidIndex() {
+            return firstInvalidIndex;
+        }
+
+        public List<String> errors() {
+            return errors;
+        }
+
+        public long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double elapsedMillis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return "Result{valid=" + isValid() + ", count=" + count + ", firstInvalidIndex=" + firstInvalidIndex + ", errors=" + errors + ", elapsed=" + elapsedMillis() + "ms}";
+        }
+    }
+}
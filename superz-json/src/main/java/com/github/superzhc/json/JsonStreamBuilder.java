@@ -0,0 +1,182 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 流式构建 json 文档，语义同 {@link JsonUtils#put}、{@link JsonUtils#putArray}，但直接写出到 OutputStream/Writer，不在内存中保留整棵树
+ * <p>
+ * 由于已写出的内容无法修改，同一个子对象（children 路径）下的字段需连续写入；同一数组的元素也需连续追加，中途写入其他字段后数组即关闭
+ * <p>
+ * 回到已关闭的子对象或数组会再次写出同名字段，解析时前面的内容会被覆盖；为此开启了重复字段检测，这种情况下直接抛出异常
+ * <p>
+ * 写入 HttpRequest 的请求体：
+ * <pre>
+ * try (JsonStreamBuilder builder = new JsonStreamBuilder(request.writer(), false)) {
+ *     builder.put("key", value);
+ * }
+ * request.body();
+ * </pre>
+ *
+ * @author superz
+ * @create 2026/10/18 16:20
+ **/
+public class JsonStreamBuilder implements Closeable, Flushable {
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    /**
+     * 当前已打开的子对象路径
+     */
+    private final List<String> openPath = new ArrayList<>();
+    /**
+     * 当前已打开的数组名称，未打开数组为 null
+     */
+    private String openArray = null;
+    private boolean closed = false;
+
+    public JsonStreamBuilder(OutputStream out) throws IOException {
+        this(out, true);
+    }
+
+    /**
+     * @param out
+     * @param closeTarget 关闭时是否同时关闭 out
+     * @throws IOException
+     */
+    public JsonStreamBuilder(OutputStream out, boolean closeTarget) throws IOException {
+        this(JsonUtils.mapper().getFactory().createGenerator(out, JsonEncoding.UTF8), closeTarget);
+    }
+
+    public JsonStreamBuilder(Writer out) throws IOException {
+        this(out, true);
+    }
+
+    public JsonStreamBuilder(Writer out, boolean closeTarget) throws IOException {
+        this(JsonUtils.mapper().getFactory().createGenerator(out), closeTarget);
+    }
+
+    private JsonStreamBuilder(JsonGenerator generator, boolean closeTarget) throws IOException {
+        this.generator = generator;
+        this.generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, closeTarget);
+        this.generator.enable(JsonGenerator.Feature.STRICT_DUPLICATE_DETECTION);
+        this.writer = JsonUtils.mapper().writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator.writeStartObject();
+    }
+
+    /**
+     * 支持多层嵌套对象节点的键值写入
+     *
+     * @param key
+     * @param value
+     * @param children
+     * @return
+     * @throws IOException
+     */
+    public JsonStreamBuilder put(String key, Object value, String... children) throws IOException {
+        closeArray();
+        moveTo(children);
+        generator.writeFieldName(key);
+        writeValue(value);
+        return this;
+    }
+
+    /**
+     * 向数组追加元素，数组不存在则创建
+     *
+     * @param arrayName
+     * @param value
+     * @param children
+     * @return
+     * @throws IOException
+     */
+    public JsonStreamBuilder putArray(String arrayName, Object value, String... children) throws IOException {
+        if (null == openArray || !openArray.equals(arrayName) || !isOpenPath(children)) {
+            closeArray();
+            moveTo(children);
+            generator.writeArrayFieldStart(arrayName);
+            openArray = arrayName;
+        }
+        writeValue(value);
+        return this;
+    }
+
+    public JsonStreamBuilder addAll(String arrayName, Iterable<?> values, String... children) throws IOException {
+        for (Object value : values) {
+            putArray(arrayName, value, children);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    /**
+     * 关闭所有未闭合的数组和对象，完成文档
+     *
+     * @throws IOException
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        closeArray();
+        moveTo();
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (null == value) {
+            generator.writeNull();
+        } else {
+            writer.writeValue(generator, value);
+        }
+    }
+
+    private void closeArray() throws IOException {
+        if (null != openArray) {
+            generator.writeEndArray();
+            openArray = null;
+        }
+    }
+
+    private boolean isOpenPath(String... children) {
+        int len = null == children ? 0 : children.length;
+        return len == openPath.size() && (len == 0 || openPath.equals(Arrays.asList(children)));
+    }
+
+    /**
+     * 关闭与目标路径不同的子对象，再依次打开目标路径中尚未打开的子对象
+     */
+    private void moveTo(String... children) throws IOException {
+        int len = null == children ? 0 : children.length;
+
+        int common = 0;
+        while (common < len && common < openPath.size() && openPath.get(common).equals(children[common])) {
+            common++;
+        }
+
+        while (openPath.size() > common) {
+            generator.writeEndObject();
+            openPath.remove(openPath.size() - 1);
+        }
+
+        for (int i = common; i < len; i++) {
+            generator.writeObjectFieldStart(children[i]);
+            openPath.add(children[i]);
+        }
+    }
+}
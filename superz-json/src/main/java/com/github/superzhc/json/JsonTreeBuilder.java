@@ -0,0 +1,90 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Map;
+
+/**
+ * 批量构建 json 文档，语义同 {@link JsonUtils#put}、{@link JsonUtils#putArray}
+ * <p>
+ * 值通过 {@link JsonUtils#toNode} 直接转换成节点，不再经过字符串的序列化和解析
+ *
+ * @author superz
+ * @create 2026/10/18 15:52
+ **/
+public class JsonTreeBuilder {
+    private final ObjectNode root;
+
+    private JsonTreeBuilder(ObjectNode root) {
+        this.root = root;
+    }
+
+    public static JsonTreeBuilder create() {
+        return new JsonTreeBuilder(JsonUtils.mapper().createObjectNode());
+    }
+
+    /**
+     * 在已有的节点上继续构建
+     *
+     * @param root
+     * @return
+     */
+    public static JsonTreeBuilder of(ObjectNode root) {
+        return new JsonTreeBuilder(root);
+    }
+
+    public JsonTreeBuilder put(String key, Object value, String... children) {
+        JsonUtils.childObject(root, children).set(key, JsonUtils.toNode(value));
+        return this;
+    }
+
+    public JsonTreeBuilder putAll(Map<String, ?> values, String... children) {
+        ObjectNode node = JsonUtils.childObject(root, children);
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            node.set(entry.getKey(), JsonUtils.toNode(entry.getValue()));
+        }
+        return this;
+    }
+
+    public JsonTreeBuilder add(String arrayName, Object value, String... children) {
+        array(arrayName, children).add(JsonUtils.toNode(value));
+        return this;
+    }
+
+    /**
+     * 批量追加数组元素，数组节点只查找一次
+     *
+     * @param arrayName
+     * @param values
+     * @param children
+     * @return
+     */
+    public JsonTreeBuilder addAll(String arrayName, Iterable<?> values, String... children) {
+        ArrayNode arrayNode = array(arrayName, children);
+        for (Object value : values) {
+            arrayNode.add(JsonUtils.toNode(value));
+        }
+        return this;
+    }
+
+    public ObjectNode build() {
+        return root;
+    }
+
+    /**
+     * 获取数组节点，不存在或值为 null 时创建；已有非数组的值时抛出异常，不覆盖原有的值
+     */
+    private ArrayNode array(String arrayName, String... children) {
+        ObjectNode node = JsonUtils.childObject(root, children);
+        JsonNode arrayNode = node.get(arrayName);
+        if (null == arrayNode || arrayNode.isNull()) {
+            return node.putArray(arrayName);
+        }
+        if (!arrayNode.isArray()) {
+            throw new RuntimeException("json 节点【" + arrayName + "】不是数组");
+        }
+        return (ArrayNode) arrayNode;
+    }
+}
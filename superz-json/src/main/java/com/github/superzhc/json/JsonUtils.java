@@ -1,31 +1,35 @@
 package com.github.superzhc.json;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.*;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.superzhc.core.cache.Cache;
+import com.github.superzhc.core.collection.DoubleList;
+import com.github.superzhc.core.collection.IntList;
+import com.github.superzhc.core.collection.ListHelper;
+import com.github.superzhc.core.collection.LongList;
+import com.github.superzhc.core.collection.RowMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
-import java.text.SimpleDateFormat;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.time.*;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author superz
@@ -34,35 +38,30 @@ import java.util.regex.Pattern;
 public class JsonUtils {
     private static final Logger log = LoggerFactory.getLogger(JsonUtils.class);
 
-    private static final ObjectMapper mapper = new ObjectMapper();
-
-    static {
-        //2022年12月6日 提供对Java8 LocalDate、LocalTime、LocalDateTime支持
-        // 日期和时间格式化
-        JavaTimeModule javaTimeModule = new JavaTimeModule();
-        javaTimeModule.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-        javaTimeModule.addSerializer(LocalDate.class, new LocalDateSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-        javaTimeModule.addSerializer(LocalTime.class, new LocalTimeSerializer(DateTimeFormatter.ofPattern("HH:mm:ss")));
-        javaTimeModule.addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-        javaTimeModule.addDeserializer(LocalDate.class, new LocalDateDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
-        javaTimeModule.addDeserializer(LocalTime.class, new LocalTimeDeserializer(DateTimeFormatter.ofPattern("HH:mm:ss")));
-        mapper.registerModule(javaTimeModule);
-
-        //允许使用未带引号的字段名
-        mapper.configure(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES, true);
-        //允许使用单引号
-        mapper.configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true);
-        // 忽略json字符串中不识别的属性
-        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        // 忽略无法转换的对象
-        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-
-        // mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    /**
+     * 2026年10月18日 配置迁移至 JsonProfile，默认使用宽松解析的方案
+     */
+    private static final ObjectMapper mapper = JsonProfile.LENIENT.mapper();
+    private static final ObjectReader nodeReader = mapper.reader().with(ParsedNumberNodeFactory.instance);
 
-        // 日期类型字符串处理
-        mapper.setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"));
+    /**
+     * 按类型缓存的 ObjectReader，避免每次绑定都重新查找反序列化器
+     * <p>
+     * 使用 ClassValue 而不是以 Class 为 key 的 Map：缓存随类一起回收，不会因静态引用阻止类加载器卸载，
+     * 条目数也不会超过已加载的类的数量，无需额外限制大小
+     */
+    private static final ClassValue<ObjectReader> readers = new ClassValue<ObjectReader>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+            return mapper.readerFor(type);
+        }
+    };
 
-    }
+    /**
+     * 日期格式：时间戳（毫秒/秒），用于 date、localDateTime 及对应的数组方法
+     */
+    public static final String EPOCH_MILLIS = "epoch_millis";
+    public static final String EPOCH_SECONDS = "epoch_seconds";
 
     private static Pattern pattern = Pattern.compile("^([\\s\\S]+)\\[([0-9]+)\\]$");
 
@@ -70,7 +69,22 @@ public class JsonUtils {
         return mapper;
     }
 
+    /**
+     * 2026年10月18日 路径字符串解析结果的缓存
+     */
+    private static final Cache<String, Object[]> convertedPaths = Cache.newBuilder().maximumSize(4096).build();
+
+    /**
+     * 将 a.b\.c.d[0] 形式的路径转换为路径数组，解析结果会被缓存
+     *
+     * @param path
+     * @return 每次返回新的数组，可自由修改
+     */
     public static Object[] convertPaths(String path) {
+        return convertedPaths.get(path, JsonUtils::parsePaths).clone();
+    }
+
+    private static Object[] parsePaths(String path) {
         List<String> subStrs = new ArrayList<>();
 
         int len = path.length();
@@ -176,6 +190,10 @@ public class JsonUtils {
         }
     }
 
+    public static ObjectReader reader(Class<?> clazz) {
+        return readers.get(clazz);
+    }
+
     public static Map<String, Object> map(String json, Object... paths) {
         JsonNode node = loads(json, paths);
         return map(node);
@@ -216,6 +234,22 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * 以内存映射的方式读取文件，适用于反复分析本地的大文件，支持超过 2G 的文件
+     *
+     * @param file
+     * @param paths
+     * @return
+     */
+    public static JsonNode loadsMapped(File file, Object... paths) {
+        try (InputStream in = new MappedFileInputStream(file)) {
+            JsonNode node = mapper.readTree(in);
+            return object(node, paths);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public static JsonNode loads(String json, Object... paths) {
         try {
             JsonNode node = mapper.readTree(json);
@@ -237,6 +271,200 @@ public class JsonUtils {
         return loads(json, paths);
     }
 
+    //region===================================流式读取===================================================================
+
+    /**
+     * 流式遍历文件中的数组，数组元素转换成 Map，适用于超大文件
+     * <p>
+     * 注意：未遍历完成时需调用 close 关闭文件
+     *
+     * @param file
+     * @param paths 数组所在的路径，为空则文件顶层即为数组
+     * @return
+     */
+    public static JsonArrayIterator<Map<String, Object>> iterator(File file, Object... paths) {
+        try {
+            return arrayIterator(mapper.getFactory().createParser(file), reader(LinkedHashMap.class), paths);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static <T> JsonArrayIterator<T> iterator(File file, Class<T> clazz, Object... paths) {
+        try {
+            return iterator(mapper.getFactory().createParser(file), clazz, paths);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static JsonArrayIterator<Map<String, Object>> iterator(InputStream in, Object... paths) {
+        try {
+            return arrayIterator(mapper.getFactory().createParser(in), reader(LinkedHashMap.class), paths);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static <T> JsonArrayIterator<T> iterator(InputStream in, Class<T> clazz, Object... paths) {
+        try {
+            return iterator(mapper.getFactory().createParser(in), clazz, paths);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 路径不存在或不是数组时关闭 parser 并抛出异常
+     *
+     * @param parser
+     * @param clazz
+     * @param paths
+     * @param <T>
+     * @return
+     */
+    public static <T> JsonArrayIterator<T> iterator(JsonParser parser, Class<T> clazz, Object... paths) {
+        return arrayIterator(parser, reader(clazz), paths);
+    }
+
+    private static <T> JsonArrayIterator<T> arrayIterator(JsonParser parser, ObjectReader reader, Object... paths) {
+        try {
+            if (!seek(parser, paths)) {
+                parser.close();
+                throw new RuntimeException("json 中不存在路径：" + Arrays.toString(paths));
+            }
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new RuntimeException("json 节点不是数组，无法流式遍历：" + Arrays.toString(paths));
+            }
+            return new JsonArrayIterator<>(parser, reader);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 创建基于内存映射读取文件的 parser，可配合 {@method iterator}、{@method seek} 使用
+     *
+     * @param file
+     * @return
+     */
+    public static JsonParser mappedParser(File file) {
+        try {
+            return mapper.getFactory().createParser(new MappedFileInputStream(file));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 流式遍历文件中的数组，Stream 关闭时关闭文件
+     *
+     * @param file
+     * @param paths
+     * @return
+     */
+    public static Stream<Map<String, Object>> stream(File file, Object... paths) {
+        return stream(iterator(file, paths));
+    }
+
+    public static <T> Stream<T> stream(File file, Class<T> clazz, Object... paths) {
+        return stream(iterator(file, clazz, paths));
+    }
+
+    public static Stream<Map<String, Object>> stream(InputStream in, Object... paths) {
+        return stream(iterator(in, paths));
+    }
+
+    public static <T> Stream<T> stream(InputStream in, Class<T> clazz, Object... paths) {
+        return stream(iterator(in, clazz, paths));
+    }
+
+    private static <T> Stream<T> stream(JsonArrayIterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        iterator.close();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+    }
+
+    /**
+     * 将 parser 定位到路径对应的节点上，路径规则同 {@method object}
+     * <p>
+     * 跳过的兄弟节点不会被构建，定位成功后 parser 的当前 token 为目标节点的起始 token
+     *
+     * @param parser
+     * @param paths
+     * @return 路径不存在返回 false
+     * @throws IOException
+     */
+    public static boolean seek(JsonParser parser, Object... paths) throws IOException {
+        if (null == parser.currentToken() && null == parser.nextToken()) {
+            return false;
+        }
+
+        if (null == paths) {
+            return true;
+        }
+
+        for (Object path : paths) {
+            if (null == path) {
+                continue;
+            }
+
+            if (path.getClass() == String.class) {
+                String str = (String) path;
+                if (!str.startsWith("/")) {
+                    str = "/" + str;
+                }
+
+                JsonPointer pointer = JsonPointer.compile(str);
+                while (!pointer.matches()) {
+                    if (!seekChild(parser, pointer.getMatchingProperty(), pointer.getMatchingIndex())) {
+                        return false;
+                    }
+                    pointer = pointer.tail();
+                }
+            } else if (path.getClass() == int.class || path.getClass() == Integer.class) {
+                if (!seekChild(parser, null, (int) path)) {
+                    return false;
+                }
+            } else {
+                throw new RuntimeException("json 子节点的获取仅支持字符串字段和整型index序号");
+            }
+        }
+        return true;
+    }
+
+    private static boolean seekChild(JsonParser parser, String property, int index) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT && null != property) {
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                if (property.equals(name)) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        } else if (token == JsonToken.START_ARRAY && index >= 0) {
+            int i = 0;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && null != token) {
+                if (i++ == index) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+        return false;
+    }
+    //endregion================================流式读取===================================================================
+
     public static String simpleString(String json, Object... paths) {
         JsonNode childNode = loads(json, paths);
         return text(childNode);
@@ -275,6 +503,51 @@ public class JsonUtils {
         return node;
     }
 
+    /**
+     * 将节点直接绑定到 Bean，不经过中间的 Map
+     *
+     * @param json
+     * @param clazz
+     * @param paths
+     * @param <T>
+     * @return
+     */
+    public static <T> T bean(JsonNode json, Class<T> clazz, Object... paths) {
+        JsonNode childNode = object(json, paths);
+        if (null == childNode || childNode.isMissingNode() || childNode.isNull()) {
+            return null;
+        }
+
+        try {
+            return reader(clazz).readValue(childNode);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 将对象数组的每个元素直接绑定到 Bean，不构建中间的 Map
+     *
+     * @param node
+     * @param clazz
+     * @param paths
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> beanList(JsonNode node, Class<T> clazz, Object... paths) {
+        ArrayNode childNode = array(node, paths);
+        ObjectReader reader = reader(clazz);
+        List<T> lst = new ArrayList<>(childNode.size());
+        try {
+            for (JsonNode item : childNode) {
+                lst.add(null == item || item.isNull() ? null : reader.<T>readValue(item));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return lst;
+    }
+
     public static ArrayNode array(JsonNode json, Object... paths) {
         JsonNode childNode = object(json, paths);
         return (ArrayNode) childNode;
@@ -287,6 +560,10 @@ public class JsonUtils {
 
     public static Object objectValue(JsonNode json, Object... paths) {
         JsonNode childNode = object(json, paths);
+        return value(childNode);
+    }
+
+    private static Object value(JsonNode childNode) {
         if (null == childNode) {
             return null;
         }
@@ -379,18 +656,20 @@ public class JsonUtils {
         return null == childNode ? Boolean.FALSE : childNode.asBoolean();
     }
 
+    /**
+     * @param node
+     * @param format 日期格式，时间戳使用 {@link #EPOCH_MILLIS}、{@link #EPOCH_SECONDS}
+     * @param paths
+     * @return 解析失败返回 null
+     */
     public static Date date(JsonNode node, String format, Object... paths) {
         JsonNode childNode = object(node, paths);
         if (null == childNode) {
             return null;
         }
 
-        String text = childNode.asText();
-        try {
-            return new SimpleDateFormat(format).parse(text);
-        } catch (Exception e) {
-            return null;
-        }
+        // 2026年10月18日 格式按 pattern 缓存，常用格式及时间戳直接解析
+        return JsonDateParser.of(format).date(childNode);
     }
 
     public static LocalDateTime localDateTime(JsonNode node, String format, Object... paths) {
@@ -399,17 +678,16 @@ public class JsonUtils {
             return null;
         }
 
-        String text = childNode.asText();
-
-        return LocalDateTime.parse(text, DateTimeFormatter.ofPattern(format));
+        return JsonDateParser.of(format).localDateTime(childNode);
     }
 
     public static <T> List<T> list(JsonNode node, Object... paths) {
         ArrayNode arrayNode = array(node, paths);
         List<T> lst = new ArrayList<>(arrayNode.size());
         for (int i = 0, len = arrayNode.size(); i < len; i++) {
-            JsonNode arrayChildNode = node.get(i);
-            T value = (T) objectValue(arrayChildNode);
+            // 2026年10月18日 修复：应取数组的元素，而非传入节点的元素
+            JsonNode arrayChildNode = arrayNode.get(i);
+            T value = (T) value(arrayChildNode);
             lst.add(value);
         }
         return lst;
@@ -437,7 +715,7 @@ public class JsonUtils {
         ArrayNode childNode = array(node, paths);
         int[] arr = new int[childNode.size()];
         for (int i = 0, len = childNode.size(); i < len; i++) {
-            arr[i] = null == childNode.get(i) ? null : childNode.get(i).asInt();
+            arr[i] = childNode.get(i).asInt();
         }
         return arr;
     }
@@ -447,7 +725,7 @@ public class JsonUtils {
         ArrayNode childNode = array(node, paths);
         long[] arr = new long[childNode.size()];
         for (int i = 0, len = childNode.size(); i < len; i++) {
-            arr[i] = null == childNode.get(i) ? null : childNode.get(i).asLong();
+            arr[i] = childNode.get(i).asLong();
         }
         return arr;
     }
@@ -465,25 +743,164 @@ public class JsonUtils {
         ArrayNode childNode = array(node, paths);
         double[] arr = new double[childNode.size()];
         for (int i = 0, len = childNode.size(); i < len; i++) {
-            arr[i] = null == childNode.get(i) ? null : childNode.get(i).asDouble();
+            arr[i] = childNode.get(i).asDouble();
         }
         return arr;
     }
 
+    //region===================================基本类型数组===================================================================
+
+    /**
+     * 直接从 token 流中读取 int 数组，不构建中间节点，读取完成后关闭 parser
+     *
+     * @param parser
+     * @param nullValue 元素为 null、对象、数组或无法转换为数值时使用的值
+     * @param paths     数组所在的路径
+     * @return
+     */
+    public static int[] intArray(JsonParser parser, int nullValue, Object... paths) {
+        try (JsonParser p = parser) {
+            seekArray(p, paths);
+
+            IntList arr = new IntList(64);
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY && null != token) {
+                int value;
+                if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+                    value = p.getValueAsInt(nullValue);
+                } else {
+                    p.skipChildren();
+                    value = nullValue;
+                }
+
+                arr.add(value);
+            }
+            return arr.toArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static int[] intArray(InputStream in, int nullValue, Object... paths) {
+        return intArray(parser(in), nullValue, paths);
+    }
+
+    /**
+     * 直接从 token 流中读取 long 数组，不构建中间节点，读取完成后关闭 parser
+     *
+     * @param parser
+     * @param nullValue 元素为 null、对象、数组或无法转换为数值时使用的值
+     * @param paths     数组所在的路径
+     * @return
+     */
+    public static long[] longArray(JsonParser parser, long nullValue, Object... paths) {
+        try (JsonParser p = parser) {
+            seekArray(p, paths);
+
+            LongList arr = new LongList(64);
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY && null != token) {
+                long value;
+                if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+                    value = p.getValueAsLong(nullValue);
+                } else {
+                    p.skipChildren();
+                    value = nullValue;
+                }
+
+                arr.add(value);
+            }
+            return arr.toArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static long[] longArray(InputStream in, long nullValue, Object... paths) {
+        return longArray(parser(in), nullValue, paths);
+    }
+
+    /**
+     * 直接从 token 流中读取 double 数组，不构建中间节点，读取完成后关闭 parser
+     *
+     * @param parser
+     * @param nullValue 元素为 null、对象、数组或无法转换为数值时使用的值
+     * @param nanValue  元素为 NaN（如字符串 "NaN"）时使用的值，传入 Double.NaN 则保留 NaN
+     * @param paths     数组所在的路径
+     * @return
+     */
+    public static double[] doubleArray(JsonParser parser, double nullValue, double nanValue, Object... paths) {
+        try (JsonParser p = parser) {
+            seekArray(p, paths);
+
+            DoubleList arr = new DoubleList(64);
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY && null != token) {
+                double value;
+                if (token.isNumeric()) {
+                    value = p.getDoubleValue();
+                    if (Double.isNaN(value)) {
+                        value = nanValue;
+                    }
+                } else if (token == JsonToken.VALUE_STRING) {
+                    try {
+                        value = Double.parseDouble(p.getText().trim());
+                        if (Double.isNaN(value)) {
+                            value = nanValue;
+                        }
+                    } catch (NumberFormatException e) {
+                        value = nullValue;
+                    }
+                } else if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+                    value = token == JsonToken.VALUE_TRUE ? 1.0 : 0.0;
+                } else {
+                    p.skipChildren();
+                    value = nullValue;
+                }
+
+                arr.add(value);
+            }
+            return arr.toArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static double[] doubleArray(InputStream in, double nullValue, double nanValue, Object... paths) {
+        return doubleArray(parser(in), nullValue, nanValue, paths);
+    }
+
+    private static JsonParser parser(InputStream in) {
+        try {
+            return mapper.getFactory().createParser(in);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void seekArray(JsonParser parser, Object... paths) throws IOException {
+        if (!seek(parser, paths) || parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new RuntimeException("json 路径" + Arrays.toString(paths) + "不是数组");
+        }
+    }
+    //endregion================================基本类型数组===================================================================
+
     public static Date[] dateArray(JsonNode node, String format, Object... paths) {
         ArrayNode childNode = array(node, paths);
+        JsonDateParser parser = JsonDateParser.of(format);
         Date[] arr = new Date[childNode.size()];
         for (int i = 0, len = childNode.size(); i < len; i++) {
-            arr[i] = date(childNode.get(i), format);
+            arr[i] = parser.date(childNode.get(i));
         }
         return arr;
     }
 
     public static LocalDateTime[] localDateTimeArray(JsonNode node, String format, Object... paths) {
         ArrayNode childNode = array(node, paths);
+        JsonDateParser parser = JsonDateParser.of(format);
         LocalDateTime[] arr = new LocalDateTime[childNode.size()];
         for (int i = 0, len = childNode.size(); i < len; i++) {
-            arr[i] = localDateTime(childNode.get(i), format);
+            arr[i] = parser.localDateTime(childNode.get(i));
         }
         return arr;
     }
@@ -510,31 +927,251 @@ public class JsonUtils {
             childNode = object(node, paths);
         }
 
+        return newObjectArray(childNode, keys, true);
+    }
+
+    /**
+     * @param keys     为空时以第一个有字段的元素为准
+     * @param pathKeys keys 中含 / 或 ~ 的 key 是否按路径解析；从数据中取得的 key 必须按字段名原样获取
+     */
+    private static Map<String, Object>[] newObjectArray(JsonNode childNode, List<String> keys, boolean pathKeys) {
+        RowMap.Schema schema = (null == keys || keys.size() == 0) ? null : RowMap.Schema.of(keys);
+
         Map<String, Object>[] arr = new Map[childNode.size()];
-        for (int i = 0, len = childNode.size(); i < len; i++) {
+        newObjectArray(childNode, schema, pathKeys, arr, 0, arr.length);
+        return arr;
+    }
+
+    /**
+     * 转换 [from, to) 范围内的元素
+     * <p>
+     * 2026年10月18日 有字段的元素转换为 {@link RowMap}，所有行共用同一个 key 结构，减少大结果集的内存占用
+     *
+     * @param schema   为 null 时以范围内第一个有字段的元素为准，此时 key 均按字段名原样获取
+     * @param pathKeys schema 中含 / 或 ~ 的 key 是否按路径解析
+     */
+    private static void newObjectArray(JsonNode childNode, RowMap.Schema schema, boolean pathKeys, Map<String, Object>[] arr, int from, int to) {
+        for (int i = from; i < to; i++) {
             JsonNode item = childNode.get(i);
             if (null == item) {
                 continue;
             }
 
-            Map<String, Object> map = new LinkedHashMap<>();
-            if (null == keys || keys.size() == 0) {
-                keys = null == keys ? new ArrayList<>() : keys;
-                Iterator<String> fieldNames = item.fieldNames();
-                while (fieldNames.hasNext()) {
-                    keys.add(fieldNames.next());
+            if (null == schema) {
+                if (item.size() == 0 || !item.isObject()) {
+                    arr[i] = new LinkedHashMap<>();
+                    continue;
                 }
+
+                // 直接遍历字段完成取值，同时记录 key 供后续元素使用
+                String[] names = new String[item.size()];
+                Object[] values = new Object[names.length];
+                int j = 0;
+                Iterator<Map.Entry<String, JsonNode>> fields = item.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    names[j] = field.getKey();
+                    values[j++] = value(field.getValue());
+                }
+                schema = RowMap.Schema.of(names);
+                pathKeys = false;
+                arr[i] = RowMap.of(schema, values);
+            } else {
+                Object[] values = new Object[schema.size()];
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = value(pathKeys ? field(item, schema.key(j)) : item.get(schema.key(j)));
+                }
+                arr[i] = RowMap.of(schema, values);
             }
+        }
+    }
 
-            for (String key : keys) {
-                map.put(key, objectValue(item, key));
+    //region===================================并行转换===================================================================
+    /**
+     * 元素数小于该值时顺序转换，与 ListHelper 共用
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = ListHelper.DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * 使用公共 ForkJoinPool 并行转换，结果与 list 一致，顺序不变
+     *
+     * @param node
+     * @param paths
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> listParallel(JsonNode node, Object... paths) {
+        return listParallel(node, paths, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * 将数组按范围切分，在指定的 ForkJoinPool 中并行转换，结果顺序不变
+     *
+     * @param node
+     * @param paths
+     * @param pool
+     * @param threshold 元素数小于该值时顺序转换
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> listParallel(JsonNode node, Object[] paths, ForkJoinPool pool, int threshold) {
+        ArrayNode arrayNode = array(node, paths);
+        int size = arrayNode.size();
+        if (size < threshold) {
+            return list(arrayNode);
+        }
+
+        Object[] arr = new Object[size];
+        ListHelper.forEachRange(size, pool, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                arr[i] = value(arrayNode.get(i));
             }
+        });
+        return new ArrayList<>((List<T>) Arrays.asList(arr));
+    }
+
+    /**
+     * 使用公共 ForkJoinPool 并行转换，结果与 newObjectArray 一致，顺序不变
+     *
+     * @param node
+     * @param paths
+     * @return
+     */
+    public static Map<String, Object>[] newObjectArrayParallel(JsonNode node, Object... paths) {
+        return newObjectArrayParallel(node, paths, null, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * 将数组按范围切分，在指定的 ForkJoinPool 中并行转换，结果顺序不变
+     *
+     * @param node
+     * @param paths
+     * @param keys      为空时以第一个有字段的元素为准，与 newObjectArray 一致
+     * @param pool
+     * @param threshold 元素数小于该值时顺序转换
+     * @return
+     */
+    public static Map<String, Object>[] newObjectArrayParallel(JsonNode node, Object[] paths, List<String> keys, ForkJoinPool pool, int threshold) {
+        JsonNode childNode = node;
+        if (null != paths) {
+            childNode = object(node, paths);
+        }
+
+        int size = childNode.size();
+        if (size < threshold) {
+            return newObjectArray(childNode, keys, true);
+        }
 
-            arr[i] = map;
+        Map<String, Object>[] arr = new Map[size];
+        RowMap.Schema schema = (null == keys || keys.size() == 0) ? null : RowMap.Schema.of(keys);
+        // 调用方传入的 key 按路径解析，从数据中推断的 key 按字段名原样获取
+        boolean pathKeys = null != schema;
+        int start = 0;
+        if (null == schema) {
+            // 先顺序转换到第一个有字段的元素，确定 key 后其余部分才能并行
+            while (start < size && !(childNode.get(start).isObject() && childNode.get(start).size() > 0)) {
+                start++;
+            }
+            if (start < size) {
+                newObjectArray(childNode, null, false, arr, 0, ++start);
+                schema = ((RowMap) arr[start - 1]).schema();
+            } else {
+                newObjectArray(childNode, null, false, arr, 0, size);
+                return arr;
+            }
         }
+
+        JsonNode items = childNode;
+        RowMap.Schema finalSchema = schema;
+        int offset = start;
+        ListHelper.forEachRange(size - offset, pool,
+                (from, to) -> newObjectArray(items, finalSchema, pathKeys, arr, offset + from, offset + to));
         return arr;
     }
 
+    //endregion================================并行转换===================================================================
+
+    /**
+     * 取所有元素字段的并集作为 key，元素中不存在的 key 值为 null
+     *
+     * @param node
+     * @param paths
+     * @return
+     */
+    public static Map<String, Object>[] newObjectArrayUnionKeys(JsonNode node, Object... paths) {
+        JsonNode childNode = object(node, paths);
+        return newObjectArray(childNode, unionKeys(childNode), false);
+    }
+
+    /**
+     * 列式输出：key 为列名，value 为该列在各元素中的值，列名取所有元素字段的并集
+     *
+     * @param node
+     * @param paths
+     * @return
+     */
+    public static Map<String, Object[]> newObjectColumns(JsonNode node, Object... paths) {
+        return newObjectColumns(node, paths, null);
+    }
+
+    public static Map<String, Object[]> newObjectColumns(JsonNode node, Object[] paths, List<String> keys) {
+        JsonNode childNode = node;
+        if (null != paths) {
+            childNode = object(node, paths);
+        }
+
+        // 调用方传入的 key 按路径解析，从数据中取得的 key 按字段名原样获取
+        boolean pathKeys = null != keys && keys.size() > 0;
+        List<String> columns = pathKeys ? keys : unionKeys(childNode);
+
+        int size = childNode.size();
+        Map<String, Object[]> table = new LinkedHashMap<>(mapCapacity(columns.size()));
+        for (String column : columns) {
+            table.put(column, new Object[size]);
+        }
+
+        for (int i = 0; i < size; i++) {
+            JsonNode item = childNode.get(i);
+            if (null == item) {
+                continue;
+            }
+
+            for (Map.Entry<String, Object[]> column : table.entrySet()) {
+                column.getValue()[i] = value(pathKeys ? field(item, column.getKey()) : item.get(column.getKey()));
+            }
+        }
+        return table;
+    }
+
+    private static List<String> unionKeys(JsonNode arrayNode) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (JsonNode item : arrayNode) {
+            Iterator<String> fieldNames = item.fieldNames();
+            while (fieldNames.hasNext()) {
+                keys.add(fieldNames.next());
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+
+    /**
+     * 获取对象的字段，不含路径分隔符的 key 直接按字段名获取，避免为每个字段构建 JsonPointer
+     *
+     * @param item
+     * @param key
+     * @return
+     */
+    private static JsonNode field(JsonNode item, String key) {
+        if (key.indexOf('/') < 0 && key.indexOf('~') < 0) {
+            return item.get(key);
+        }
+        return object(item, key);
+    }
+
+    private static int mapCapacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
     public static String[] mapOneArray(JsonNode node, String key, String... paths) {
         ArrayNode childNode = array(node, paths);
         String[] arr = new String[childNode.size()];
@@ -855,6 +1492,28 @@ public class JsonUtils {
 
     //region===================================写节点===================================================================
     public static JsonNode putArray(ObjectNode node0, String arrayName, Object value, String... children) {
+        ObjectNode node = childObject(node0, children);
+
+        ArrayNode arrayNode;
+        if (node.has(arrayName)) {
+            arrayNode = (ArrayNode) node.get(arrayName);
+        } else {
+            arrayNode = node.putArray(arrayName);
+        }
+
+        putArray(arrayNode, value);
+
+        return node0;
+    }
+
+    /**
+     * 获取多层嵌套的子对象节点，不存在则创建
+     *
+     * @param node0
+     * @param children
+     * @return
+     */
+    static ObjectNode childObject(ObjectNode node0, String... children) {
         ObjectNode node = node0;
         if (null != children && children.length > 0) {
             for (String child : children) {
@@ -865,24 +1524,94 @@ public class JsonUtils {
                 }
             }
         }
+        return node;
+    }
 
-        ArrayNode arrayNode;
-        if (node.has(arrayName)) {
-            arrayNode = (ArrayNode) node.get(arrayName);
-        } else {
-            arrayNode = node.putArray(arrayName);
+    /**
+     * 将任意对象转换成节点
+     * <p>
+     * 2026年10月18日 原先通过 loads(asString(value)) 先序列化成字符串再解析，现改为直接写入 TokenBuffer 构建节点；常见的简单类型直接创建节点
+     * <p>
+     * 数值节点的类型与原先解析字符串的结果保持一致，见 {@link ParsedNumberNodeFactory}
+     *
+     * @param value
+     * @return
+     */
+    public static JsonNode toNode(Object value) {
+        if (null == value) {
+            return NullNode.getInstance();
+        } else if (value instanceof JsonNode) {
+            // 与原先的行为保持一致，写入的是副本
+            return ((JsonNode) value).deepCopy();
+        } else if (value instanceof String) {
+            return TextNode.valueOf((String) value);
+        } else if (value instanceof Integer) {
+            return IntNode.valueOf((Integer) value);
+        } else if (value instanceof Long) {
+            return ParsedNumberNodeFactory.instance.numberNode((long) value);
+        } else if (value instanceof Double) {
+            return DoubleNode.valueOf((Double) value);
+        } else if (value instanceof Boolean) {
+            return BooleanNode.valueOf((Boolean) value);
         }
 
-        putArray(arrayNode, value);
+        try {
+            TokenBuffer buffer = new TokenBuffer(mapper, false);
+            mapper.writeValue(buffer, value);
+            try (JsonParser parser = buffer.asParser()) {
+                return nodeReader.readTree(parser);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
-        return node0;
+    /**
+     * 数值节点的类型与将值序列化成字符串再解析的结果一致：整数按大小取 IntNode/LongNode/BigIntegerNode，
+     * Float、BigDecimal 与 Double 一样均为 DoubleNode，这样 toNode 生成的节点与 loads 解析的节点可以直接比较
+     */
+    private static final class ParsedNumberNodeFactory extends JsonNodeFactory {
+        private static final long serialVersionUID = 1L;
+
+        static final ParsedNumberNodeFactory instance = new ParsedNumberNodeFactory();
+
+        private ParsedNumberNodeFactory() {
+            super(false);
+        }
+
+        @Override
+        public NumericNode numberNode(long v) {
+            return v == (int) v ? IntNode.valueOf((int) v) : LongNode.valueOf(v);
+        }
+
+        @Override
+        public ValueNode numberNode(BigInteger v) {
+            if (null == v) {
+                return nullNode();
+            }
+            return v.bitLength() < 64 ? numberNode(v.longValue()) : BigIntegerNode.valueOf(v);
+        }
+
+        @Override
+        public NumericNode numberNode(float v) {
+            // 按 Float.toString 的文本解析，1.1f 得到 1.1 而不是 1.100000023841858
+            return DoubleNode.valueOf(Double.parseDouble(Float.toString(v)));
+        }
+
+        @Override
+        public ValueNode numberNode(BigDecimal v) {
+            if (null == v) {
+                return nullNode();
+            }
+            return DoubleNode.valueOf(v.doubleValue());
+        }
     }
 
     public static JsonNode putArray(ArrayNode node0, Object value) {
         if (null == value) {
             node0.addNull();
         } else {
-            node0.add(loads(asString(value)));
+            node0.add(toNode(value));
         }
         return node0;
     }
@@ -897,19 +1626,7 @@ public class JsonUtils {
      * @return
      */
     public static JsonNode put(ObjectNode node0, String key, Object value, String... children) {
-        ObjectNode node = node0;
-        if (null != children && children.length > 0) {
-            for (String child : children) {
-                if (node.hasNonNull(child)) {
-                    node = (ObjectNode) node.get(child);
-                } else {
-//                    ObjectNode childNode = mapper().createObjectNode();
-//                    node.put(child, childNode);
-//                    node = childNode;
-                    node = node.putObject(child);
-                }
-            }
-        }
+        ObjectNode node = childObject(node0, children);
 
         if (null == value) {
 //            node.set(key, null);
@@ -965,16 +1682,20 @@ public class JsonUtils {
 //            }
 //        }
         else {
-            node.set(key, loads(asString(value)));
+            node.set(key, toNode(value));
         }
         return node0;
     }
     //endregion================================写节点===================================================================
 
-    //=============================【实验性】JsonPath支持，若未引入jsonpath依赖包，无法使用如下方法===========================
-//    public static JsonNode jsonPath(JsonNode node, String path) {
-//        return JsonPathUtils.read(node, path);
-//    }
-    //=============================【实验性】JsonPath支持===================================================================
+    //=============================JsonPath支持，若未引入jsonpath依赖包，无法使用如下方法===================================
+    public static JsonNode jsonPath(JsonNode node, String path) {
+        return JsonPathUtils.read(node, path);
+    }
+
+    public static Map<String, JsonNode> jsonPath(JsonNode node, String... paths) {
+        return JsonPathUtils.read(node, paths);
+    }
+    //=============================JsonPath支持===========================================================================
 }
 
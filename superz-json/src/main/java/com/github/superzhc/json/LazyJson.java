@@ -0,0 +1,667 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 延迟解析的 json 视图
+ * <p>
+ * 不构建完整的节点树：容器首次被访问时扫描一遍原始字节，记录直接子元素（对象的字段、数组的元素）的偏移量，
+ * 子元素本身只在被访问时才继续建索引或解码。适用于只读取少量字段的大对象
+ * <p>
+ * 与 JsonUtils 的区别：
+ * <ul>
+ *     <li>仅支持标准 json，不支持单引号、无引号字段名等宽松格式</li>
+ *     <li>路径不存在或值为 null 时，各访问方法均返回 null</li>
+ *     <li>扫描时只校验结构，值的合法性在解码时校验</li>
+ * </ul>
+ * 路径规则与 JsonUtils.object 一致：字符串为字段名（可用 / 分隔多级），整型为数组下标
+ *
+ * @author superz
+ * @create 2026/10/18 19:45
+ **/
+public final class LazyJson {
+    private final byte[] data;
+    /**
+     * 值的起止位置，不含前后空白
+     */
+    private final int start;
+    private final int end;
+
+    /**
+     * 对象：[字段名起始, 字段名结束, 值起始, 值结束]*n；数组：[值起始, 值结束]*n
+     */
+    private volatile int[] index = null;
+
+    private LazyJson(byte[] data, int start, int end) {
+        this.data = data;
+        this.start = start;
+        this.end = end;
+    }
+
+    //region===================================创建===================================================================
+    public static LazyJson of(byte[] data) {
+        return of(data, 0, data.length);
+    }
+
+    public static LazyJson of(byte[] data, int offset, int length) {
+        int s = skipWhitespace(data, offset, offset + length);
+        // 跳过 UTF-8 BOM
+        if (s + 2 < offset + length && data[s] == (byte) 0xEF && data[s + 1] == (byte) 0xBB && data[s + 2] == (byte) 0xBF) {
+            s = skipWhitespace(data, s + 3, offset + length);
+        }
+        if (s >= offset + length) {
+            throw new RuntimeException("json 内容为空");
+        }
+
+        // 容器不在此处整体扫描，首次访问时建索引再扫描，避免对文档扫描两遍；结束符是否匹配也在建索引时校验
+        int e = offset + length;
+        while (e > s && (data[e - 1] == ' ' || data[e - 1] == '\n' || data[e - 1] == '\r' || data[e - 1] == '\t')) {
+            e--;
+        }
+        byte first = data[s];
+        if (first == '{' || first == '[') {
+            if (data[e - 1] != (first == '{' ? '}' : ']')) {
+                throw error(e - 1);
+            }
+        } else if (skipValue(data, s, e) != e) {
+            throw error(s);
+        }
+        return new LazyJson(data, s, e);
+    }
+
+    public static LazyJson of(String json) {
+        return of(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LazyJson of(File file) {
+        try {
+            return of(Files.readAllBytes(file.toPath()));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+    //endregion================================创建===================================================================
+
+    //region===================================访问===================================================================
+    public LazyJson object(Object... paths) {
+        LazyJson node = this;
+        for (Object path : paths) {
+            if (null == path) {
+                continue;
+            }
+
+            if (path.getClass() == String.class) {
+                String str = (String) path;
+                int from = str.startsWith("/") ? 1 : 0;
+                while (null != node && from <= str.length()) {
+                    int to = str.indexOf('/', from);
+                    if (to < 0) {
+                        to = str.length();
+                    }
+                    node = node.child(unescape(str.substring(from, to)));
+                    from = to + 1;
+                }
+            } else if (path.getClass() == Integer.class) {
+                node = node.get((Integer) path);
+            } else {
+                throw new RuntimeException("json 子节点的获取仅支持字符串字段和整型index序号");
+            }
+
+            if (null == node) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    public boolean has(Object... paths) {
+        return null != object(paths);
+    }
+
+    /**
+     * 数组元素
+     *
+     * @param i
+     * @return 非数组或下标越界时返回 null
+     */
+    public LazyJson get(int i) {
+        if (!isArray()) {
+            return null;
+        }
+
+        int[] idx = index();
+        if (i < 0 || 2 * i >= idx.length) {
+            return null;
+        }
+        return new LazyJson(data, idx[2 * i], idx[2 * i + 1]);
+    }
+
+    /**
+     * 对象字段，重复的字段取最后一个
+     *
+     * @param key
+     * @return 非对象或字段不存在时返回 null
+     */
+    public LazyJson get(String key) {
+        return isObject() ? child(key) : null;
+    }
+
+    public String string(Object... paths) {
+        LazyJson node = object(paths);
+        if (null == node || node.isNull()) {
+            return null;
+        }
+        return node.isString() ? node.decodeString(node.start) : node.raw();
+    }
+
+    /**
+     * 字符串值解码，对象和数组返回原始 json 文本（无需重新序列化）
+     *
+     * @param paths
+     * @return
+     */
+    public String text(Object... paths) {
+        return string(paths);
+    }
+
+    public Integer integer(Object... paths) {
+        Long value = aLong(paths);
+        return null == value ? null : value.intValue();
+    }
+
+    public Long aLong(Object... paths) {
+        LazyJson node = object(paths);
+        if (null == node || node.isNull()) {
+            return null;
+        }
+
+        if (node.isNumber()) {
+            return node.decodeLong();
+        } else if (node.isString()) {
+            try {
+                return new BigDecimal(node.decodeString(node.start).trim()).longValue();
+            } catch (NumberFormatException e) {
+                return 0L;
+            }
+        } else if (node.data[node.start] == 't') {
+            return 1L;
+        } else {
+            return 0L;
+        }
+    }
+
+    public Double aDouble(Object... paths) {
+        LazyJson node = object(paths);
+        if (null == node || node.isNull()) {
+            return null;
+        }
+
+        if (node.isNumber()) {
+            return Double.parseDouble(node.raw());
+        } else if (node.isString()) {
+            try {
+                return Double.parseDouble(node.decodeString(node.start).trim());
+            } catch (NumberFormatException e) {
+                return 0.0;
+            }
+        } else if (node.data[node.start] == 't') {
+            return 1.0;
+        } else {
+            return 0.0;
+        }
+    }
+
+    public Boolean bool(Object... paths) {
+        LazyJson node = object(paths);
+        if (null == node || node.isNull()) {
+            return null;
+        }
+
+        byte b = node.data[node.start];
+        if (b == 't') {
+            return true;
+        } else if (b == 'f') {
+            return false;
+        } else if (node.isNumber()) {
+            return Double.parseDouble(node.raw()) != 0.0;
+        } else if (node.isString()) {
+            return "true".equals(node.decodeString(node.start).trim());
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * 解码成 JsonNode，仅解码该路径下的部分
+     *
+     * @param paths
+     * @return
+     */
+    public JsonNode node(Object... paths) {
+        LazyJson node = object(paths);
+        if (null == node) {
+            return null;
+        }
+
+        try {
+            return JsonUtils.mapper().readTree(node.data, node.start, node.end - node.start);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 解码成 Java 对象，规则同 JsonUtils.objectValue
+     *
+     * @param paths
+     * @return
+     */
+    public Object objectValue(Object... paths) {
+        LazyJson node = object(paths);
+        if (null == node || node.isNull()) {
+            return null;
+        }
+
+        if (node.isString()) {
+            return node.decodeString(node.start);
+        }
+        return JsonUtils.objectValue(node.node());
+    }
+
+    public <T> T bean(Class<T> clazz, Object... paths) {
+        LazyJson node = object(paths);
+        if (null == node || node.isNull()) {
+            return null;
+        }
+
+        try {
+            return JsonUtils.reader(clazz).readValue(node.data, node.start, node.end - node.start);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 对象的字段数或数组的元素数，其他类型返回 0
+     *
+     * @return
+     */
+    public int size() {
+        if (isObject()) {
+            return index().length / 4;
+        } else if (isArray()) {
+            return index().length / 2;
+        } else {
+            return 0;
+        }
+    }
+
+    public List<String> keys() {
+        if (!isObject()) {
+            return Collections.emptyList();
+        }
+
+        int[] idx = index();
+        List<String> keys = new ArrayList<>(idx.length / 4);
+        for (int i = 0; i < idx.length; i += 4) {
+            keys.add(decodeString(idx[i] - 1));
+        }
+        return keys;
+    }
+
+    public boolean isObject() {
+        return data[start] == '{';
+    }
+
+    public boolean isArray() {
+        return data[start] == '[';
+    }
+
+    public boolean isString() {
+        return data[start] == '"';
+    }
+
+    public boolean isNumber() {
+        byte b = data[start];
+        return b == '-' || (b >= '0' && b <= '9');
+    }
+
+    public boolean isNull() {
+        return data[start] == 'n';
+    }
+
+    /**
+     * 原始 json 文本
+     *
+     * @return
+     */
+    public String raw() {
+        return new String(data, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return raw();
+    }
+    //endregion================================访问===================================================================
+
+    //region===================================索引===================================================================
+    private LazyJson child(String key) {
+        if (isArray()) {
+            // 路径中的数字段作为数组下标
+            try {
+                return get(Integer.parseInt(key));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (!isObject()) {
+            return null;
+        }
+
+        byte[] expected = key.getBytes(StandardCharsets.UTF_8);
+        int[] idx = index();
+        for (int i = idx.length - 4; i >= 0; i -= 4) {
+            if (keyEquals(idx[i], idx[i + 1], key, expected)) {
+                return new LazyJson(data, idx[i + 2], idx[i + 3]);
+            }
+        }
+        return null;
+    }
+
+    private boolean keyEquals(int keyStart, int keyEnd, String key, byte[] expected) {
+        int length = keyEnd - keyStart;
+        boolean escaped = false;
+        if (length == expected.length) {
+            for (int i = 0; i < length; i++) {
+                byte b = data[keyStart + i];
+                if (b == '\\') {
+                    escaped = true;
+                    break;
+                }
+                if (b != expected[i]) {
+                    return false;
+                }
+            }
+            if (!escaped) {
+                return true;
+            }
+        } else {
+            // 长度不同时，只有含转义字符的字段名才可能相等
+            for (int i = keyStart; i < keyEnd; i++) {
+                if (data[i] == '\\') {
+                    escaped = true;
+                    break;
+                }
+            }
+            if (!escaped) {
+                return false;
+            }
+        }
+        return key.equals(decodeString(keyStart - 1));
+    }
+
+    private int[] index() {
+        int[] idx = index;
+        if (null == idx) {
+            idx = isObject() ? indexObject() : indexArray();
+            index = idx;
+        }
+        return idx;
+    }
+
+    private int[] indexObject() {
+        int[] idx = new int[32];
+        int n = 0;
+        int pos = skipWhitespace(data, start + 1, end);
+        if (data[pos] == '}') {
+            checkClosed(pos);
+            return new int[0];
+        }
+
+        while (true) {
+            if (data[pos] != '"') {
+                throw error(pos);
+            }
+            int keyEnd = skipString(data, pos, end);
+            int keyStart = pos + 1;
+            pos = skipWhitespace(data, keyEnd + 1, end);
+            if (data[pos] != ':') {
+                throw error(pos);
+            }
+            int valueStart = skipWhitespace(data, pos + 1, end);
+            int valueEnd = skipValue(data, valueStart, end);
+
+            if (n + 4 > idx.length) {
+                idx = Arrays.copyOf(idx, idx.length * 2);
+            }
+            idx[n++] = keyStart;
+            idx[n++] = keyEnd;
+            idx[n++] = valueStart;
+            idx[n++] = valueEnd;
+
+            pos = skipWhitespace(data, valueEnd, end);
+            if (data[pos] == ',') {
+                pos = skipWhitespace(data, pos + 1, end);
+            } else if (data[pos] == '}') {
+                checkClosed(pos);
+                break;
+            } else {
+                throw error(pos);
+            }
+        }
+        return Arrays.copyOf(idx, n);
+    }
+
+    private int[] indexArray() {
+        int[] idx = new int[32];
+        int n = 0;
+        int pos = skipWhitespace(data, start + 1, end);
+        if (data[pos] == ']') {
+            checkClosed(pos);
+            return new int[0];
+        }
+
+        while (true) {
+            int valueEnd = skipValue(data, pos, end);
+            if (n + 2 > idx.length) {
+                idx = Arrays.copyOf(idx, idx.length * 2);
+            }
+            idx[n++] = pos;
+            idx[n++] = valueEnd;
+
+            pos = skipWhitespace(data, valueEnd, end);
+            if (data[pos] == ',') {
+                pos = skipWhitespace(data, pos + 1, end);
+            } else if (data[pos] == ']') {
+                checkClosed(pos);
+                break;
+            } else {
+                throw error(pos);
+            }
+        }
+        return Arrays.copyOf(idx, n);
+    }
+
+    /**
+     * 容器的结束符必须是值的最后一个字节，否则如 {"a":1} {"b":2}、[1]] 这类首尾字符恰好匹配的内容会被接受
+     */
+    private void checkClosed(int pos) {
+        if (pos != end - 1) {
+            throw error(pos + 1);
+        }
+    }
+
+    /**
+     * 跳过一个值
+     *
+     * @return 值之后的位置
+     */
+    private static int skipValue(byte[] data, int pos, int limit) {
+        if (pos >= limit) {
+            throw error(pos);
+        }
+
+        byte b = data[pos];
+        if (b == '"') {
+            return skipString(data, pos, limit) + 1;
+        } else if (b == '{' || b == '[') {
+            int depth = 0;
+            for (int i = pos; i < limit; i++) {
+                byte c = data[i];
+                if (c == '"') {
+                    i = skipString(data, i, limit);
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+            }
+            throw error(limit);
+        } else {
+            int i = pos;
+            while (i < limit) {
+                byte c = data[i];
+                if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                    break;
+                }
+                i++;
+            }
+            if (i == pos) {
+                throw error(pos);
+            }
+            return i;
+        }
+    }
+
+    /**
+     * @return 结束引号的位置
+     */
+    private static int skipString(byte[] data, int pos, int limit) {
+        for (int i = pos + 1; i < limit; i++) {
+            byte c = data[i];
+            if (c == '"') {
+                return i;
+            } else if (c == '\\') {
+                i++;
+            }
+        }
+        throw error(limit);
+    }
+
+    private static int skipWhitespace(byte[] data, int pos, int limit) {
+        while (pos < limit) {
+            byte c = data[pos];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static RuntimeException error(int pos) {
+        return new RuntimeException("json 格式错误，位置：" + pos);
+    }
+    //endregion================================索引===================================================================
+
+    //region===================================解码===================================================================
+
+    /**
+     * @param quote 开始引号的位置
+     */
+    private String decodeString(int quote) {
+        int s = quote + 1;
+        int e = skipString(data, quote, end);
+        int i = s;
+        while (i < e && data[i] != '\\') {
+            i++;
+        }
+        if (i == e) {
+            return new String(data, s, e - s, StandardCharsets.UTF_8);
+        }
+
+        StringBuilder sb = new StringBuilder(e - s);
+        int segment = s;
+        while (i < e) {
+            if (data[i] != '\\') {
+                i++;
+                continue;
+            }
+
+            sb.append(new String(data, segment, i - segment, StandardCharsets.UTF_8));
+            byte c = data[i + 1];
+            switch (c) {
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    sb.append((char) Integer.parseInt(new String(data, i + 2, 4, StandardCharsets.US_ASCII), 16));
+                    i += 4;
+                    break;
+                default:
+                    // \" \\ \/
+                    sb.append((char) c);
+            }
+            i += 2;
+            segment = i;
+        }
+        sb.append(new String(data, segment, e - segment, StandardCharsets.UTF_8));
+        return sb.toString();
+    }
+
+    private long decodeLong() {
+        int i = start;
+        boolean negative = data[i] == '-';
+        if (negative) {
+            i++;
+        }
+
+        // 不超过 18 位的整数直接计算，否则交给 BigDecimal
+        if (end - i <= 18) {
+            long value = 0L;
+            for (; i < end; i++) {
+                byte c = data[i];
+                if (c < '0' || c > '9') {
+                    return new BigDecimal(raw()).longValue();
+                }
+                value = value * 10 + (c - '0');
+            }
+            return negative ? -value : value;
+        }
+        return new BigDecimal(raw()).longValue();
+    }
+
+    private static String unescape(String segment) {
+        if (segment.indexOf('~') < 0) {
+            return segment;
+        }
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+    //endregion================================解码===================================================================
+}
@@ -0,0 +1,118 @@
+package com.github.superzhc.json;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于内存映射的文件输入流
+ * <p>
+ * 文件按块映射（单块不超过 2G），读取时直接从映射内存拷贝，不再经过 read 系统调用；超过 2G 的文件会依次映射下一块
+ * <p>
+ * 注意：jdk8 无法主动解除映射，已读完的块在 GC 时释放
+ *
+ * @author superz
+ * @create 2026/10/18 11:03
+ **/
+public class MappedFileInputStream extends InputStream {
+    /**
+     * 默认单块映射大小：1G
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long chunkSize;
+
+    /**
+     * 下一块映射的起始位置
+     */
+    private long position = 0L;
+    private MappedByteBuffer buffer = null;
+
+    public MappedFileInputStream(File file) throws IOException {
+        this(file, DEFAULT_CHUNK_SIZE);
+    }
+
+    public MappedFileInputStream(File file, long chunkSize) throws IOException {
+        if (chunkSize <= 0 || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("映射块大小需在 (0, Integer.MAX_VALUE] 范围内");
+        }
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.size = channel.size();
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureBuffer()) {
+            return -1;
+        }
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureBuffer()) {
+            return -1;
+        }
+
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+
+        long remaining = remaining();
+        long skipped = Math.min(n, remaining);
+        if (null != buffer && skipped <= buffer.remaining()) {
+            buffer.position(buffer.position() + (int) skipped);
+        } else {
+            // 跳出当前块，直接从目标位置重新映射
+            position = size - remaining + skipped;
+            buffer = null;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(Integer.MAX_VALUE, remaining());
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        channel.close();
+    }
+
+    private long remaining() {
+        return (size - position) + (null == buffer ? 0 : buffer.remaining());
+    }
+
+    private boolean ensureBuffer() throws IOException {
+        if (null != buffer && buffer.hasRemaining()) {
+            return true;
+        }
+
+        if (position >= size) {
+            return false;
+        }
+
+        long len = Math.min(chunkSize, size - position);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, len);
+        position += len;
+        return true;
+    }
+}
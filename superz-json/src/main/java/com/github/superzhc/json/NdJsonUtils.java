@@ -0,0 +1,207 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+/**
+ * NDJSON（JSON Lines）读写工具，每行一条 json 记录，空行忽略
+ * <p>
+ * 并行读取时由调用线程按行切分，每批行交给 ForkJoinPool 解析；同时在途的批次数受限，内存占用不随文件大小增长
+ *
+ * @author superz
+ * @create 2026/10/18 11:25
+ **/
+public class NdJsonUtils {
+    /**
+     * 并行解析时每批的行数
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    public static List<JsonNode> read(File file) {
+        return read(file, JsonNode.class);
+    }
+
+    /**
+     * 使用公共 ForkJoinPool 并行解析文件，结果保持文件中的顺序
+     *
+     * @param file
+     * @param clazz
+     * @param <T>
+     * @return
+     */
+    public static <T> List<T> read(File file, Class<T> clazz) {
+        List<T> lst = new ArrayList<>();
+        try (InputStream in = new FileInputStream(file)) {
+            readParallel(in, clazz, ForkJoinPool.commonPool(), true, lst::add);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return lst;
+    }
+
+    /**
+     * 单线程逐行解析
+     *
+     * @param in
+     * @param clazz
+     * @param consumer
+     * @param <T>
+     */
+    public static <T> void read(InputStream in, Class<T> clazz, Consumer<? super T> consumer) {
+        ObjectReader reader = JsonUtils.mapper().readerFor(clazz);
+        long lineNumber = 0L;
+        try {
+            BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+            String line;
+            while ((line = br.readLine()) != null) {
+                lineNumber++;
+                if (isBlank(line)) {
+                    continue;
+                }
+                consumer.accept(parseLine(reader, line, lineNumber));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static <T> void readParallel(InputStream in, Class<T> clazz, boolean ordered, Consumer<? super T> consumer) {
+        readParallel(in, clazz, ForkJoinPool.commonPool(), ordered, consumer);
+    }
+
+    /**
+     * 并行逐行解析
+     *
+     * @param in
+     * @param clazz
+     * @param pool
+     * @param ordered  为 true 时 consumer 在调用线程上按行顺序执行；为 false 时 consumer 在解析线程上直接执行，需保证线程安全
+     * @param consumer
+     * @param <T>
+     */
+    public static <T> void readParallel(InputStream in, Class<T> clazz, ForkJoinPool pool, boolean ordered, Consumer<? super T> consumer) {
+        readParallel(in, clazz, pool, ordered, DEFAULT_BATCH_SIZE, consumer);
+    }
+
+    public static <T> void readParallel(InputStream in, Class<T> clazz, ForkJoinPool pool, boolean ordered, int batchSize, Consumer<? super T> consumer) {
+        ObjectReader reader = JsonUtils.mapper().readerFor(clazz);
+        // 在途批次上限，避免读取速度远大于解析速度时行数据堆积
+        int maxInFlight = pool.getParallelism() * 2;
+        Deque<ForkJoinTask<List<T>>> tasks = new ArrayDeque<>(maxInFlight + 1);
+
+        try {
+            BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+            long lineNumber = 0L;
+            long batchStartLineNumber = 1L;
+            List<String> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = br.readLine()) != null) {
+                lineNumber++;
+                // 空行也保留在批次中，保证行号准确
+                batch.add(line);
+                if (batch.size() == batchSize) {
+                    tasks.addLast(pool.submit(parseTask(reader, batch, batchStartLineNumber, ordered ? null : consumer)));
+                    batch = new ArrayList<>(batchSize);
+                    batchStartLineNumber = lineNumber + 1;
+
+                    while (tasks.size() >= maxInFlight) {
+                        drain(tasks.pollFirst(), ordered, consumer);
+                    }
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                tasks.addLast(pool.submit(parseTask(reader, batch, batchStartLineNumber, ordered ? null : consumer)));
+            }
+
+            while (!tasks.isEmpty()) {
+                drain(tasks.pollFirst(), ordered, consumer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            for (ForkJoinTask<List<T>> task : tasks) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    public static void write(File file, Iterable<?> values) {
+        try (NdJsonWriter writer = new NdJsonWriter(file)) {
+            writer.writeAll(values);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static void write(OutputStream out, Iterable<?> values) {
+        try {
+            NdJsonWriter writer = new NdJsonWriter(out);
+            writer.writeAll(values);
+            writer.flush();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 只含空白字符（如 Windows 换行遗留的 \r、行尾空格）的行视为空行
+     */
+    private static boolean isBlank(String line) {
+        for (int i = 0, len = line.length(); i < len; i++) {
+            if (line.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> ForkJoinTask<List<T>> parseTask(ObjectReader reader, List<String> lines, long startLineNumber, Consumer<? super T> consumer) {
+        return ForkJoinTask.adapt(() -> {
+            List<T> values = null == consumer ? new ArrayList<>(lines.size()) : null;
+            for (int i = 0, len = lines.size(); i < len; i++) {
+                String line = lines.get(i);
+                if (isBlank(line)) {
+                    continue;
+                }
+
+                T value = parseLine(reader, line, startLineNumber + i);
+                if (null == consumer) {
+                    values.add(value);
+                } else {
+                    consumer.accept(value);
+                }
+            }
+            return values;
+        });
+    }
+
+    private static <T> void drain(ForkJoinTask<List<T>> task, boolean ordered, Consumer<? super T> consumer) {
+        List<T> values = task.join();
+        if (ordered) {
+            for (T value : values) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    private static <T> T parseLine(ObjectReader reader, String line, long lineNumber) {
+        try {
+            return reader.readValue(line);
+        } catch (IOException e) {
+            throw new RuntimeException("第 " + lineNumber + " 行解析失败", e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.*;
+
+/**
+ * NDJSON（JSON Lines）写入器，每条记录占一行
+ * <p>
+ * 所有记录共用一个 JsonGenerator，序列化结果先写入大缓冲区，缓冲区满了才批量写出，不会每条记录 flush 一次
+ *
+ * @author superz
+ * @create 2026/10/18 11:40
+ **/
+public class NdJsonWriter implements Closeable, Flushable {
+    /**
+     * 默认缓冲区大小：1M
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    private long count = 0L;
+
+    public NdJsonWriter(File file) throws IOException {
+        this(file, false);
+    }
+
+    public NdJsonWriter(File file, boolean append) throws IOException {
+        this(generator(new FileOutputStream(file, append), DEFAULT_BUFFER_SIZE));
+    }
+
+    public NdJsonWriter(OutputStream out) throws IOException {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    public NdJsonWriter(OutputStream out, int bufferSize) throws IOException {
+        this(JsonUtils.mapper().getFactory().createGenerator(new BufferedOutputStream(out, bufferSize), JsonEncoding.UTF8));
+    }
+
+    private NdJsonWriter(JsonGenerator generator) {
+        this.generator = generator;
+        // 记录之间的分隔由换行符负责
+        this.generator.setRootValueSeparator(null);
+        this.writer = JsonUtils.mapper().writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 由本类打开的文件流，创建 generator 失败时需自行关闭
+     */
+    private static JsonGenerator generator(FileOutputStream out, int bufferSize) throws IOException {
+        try {
+            return JsonUtils.mapper().getFactory().createGenerator(new BufferedOutputStream(out, bufferSize), JsonEncoding.UTF8);
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+    }
+
+    public NdJsonWriter write(Object value) throws IOException {
+        writer.writeValue(generator, value);
+        generator.writeRaw('\n');
+        count++;
+        return this;
+    }
+
+    public NdJsonWriter writeAll(Iterable<?> values) throws IOException {
+        for (Object value : values) {
+            write(value);
+        }
+        return this;
+    }
+
+    /**
+     * 已写入的记录数
+     *
+     * @return
+     */
+    public long count() {
+        return count;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
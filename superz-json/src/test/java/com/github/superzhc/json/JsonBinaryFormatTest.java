@@ -0,0 +1,69 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class JsonBinaryFormatTest {
+
+    private static final String JSON = "{\"id\":1,\"big\":1099511627776,\"ratio\":1.5,\"name\":\"名称\",\"flag\":true,\"none\":null,"
+            + "\"data\":[1,null,3],\"items\":[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"}]}";
+
+    public static class Item {
+        public long id;
+        public String name;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        JsonNode expected = JsonUtils.loads(JSON);
+        for (JsonBinaryFormat format : JsonBinaryFormat.values()) {
+            byte[] bytes = format.fromJson(JSON);
+            Assert.assertFalse(format.name(), Arrays.equals(JSON.getBytes(StandardCharsets.UTF_8), bytes));
+
+            Assert.assertEquals(format.name(), expected, format.loads(bytes));
+            Assert.assertEquals(format.name(), JsonUtils.asString(expected), format.toJson(bytes));
+            Assert.assertEquals(format.name(), expected.get("items"), format.loads(new ByteArrayInputStream(bytes), "items"));
+
+            // Bean、Map 写出后读回
+            Map<String, Object> map = JsonUtils.map(expected);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            format.write(out, map);
+            Assert.assertEquals(format.name(), expected, format.loads(out.toByteArray()));
+            Assert.assertEquals(format.name(), expected, format.loads(format.asBytes(map)));
+
+            Item item = format.bean(format.asBytes(format.loads(bytes, "items", 1)), Item.class);
+            Assert.assertEquals(2L, item.id);
+            Assert.assertEquals("b", item.name);
+        }
+    }
+
+    @Test
+    public void testStream() throws IOException {
+        for (JsonBinaryFormat format : JsonBinaryFormat.values()) {
+            byte[] bytes = format.fromJson(JSON);
+            Assert.assertArrayEquals(new long[]{1, -1, 3}, format.longArray(new ByteArrayInputStream(bytes), -1L, "data"));
+            Assert.assertArrayEquals(new double[]{1.0, 0.0, 3.0}, format.doubleArray(new ByteArrayInputStream(bytes), 0.0, Double.NaN, "data"), 0.0);
+
+            List<Item> items = new ArrayList<>();
+            try (JsonArrayIterator<Item> iterator = format.iterator(new ByteArrayInputStream(bytes), Item.class, "items")) {
+                iterator.forEachRemaining(items::add);
+            }
+            Assert.assertEquals(2, items.size());
+            Assert.assertEquals("a", items.get(0).name);
+
+            JsonColumns columns = format.columns(new ByteArrayInputStream(bytes), null, "items");
+            Assert.assertArrayEquals(new long[]{1, 2}, columns.longColumn("id").values());
+            Assert.assertEquals("b", columns.stringColumn("name").get(1));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.superzhc.json;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JsonColumnsTest {
+
+    private static final String ROWS = "{\"data\":[" +
+            "{\"id\":1,\"price\":2,\"code\":10,\"ratio\":1.50,\"tag\":null,\"obj\":{\"k\":1}}," +
+            "{\"id\":2,\"price\":2.5,\"code\":\"A1\",\"ratio\":\"n/a\",\"flag\":true,\"obj\":[1,2]}," +
+            "null," +
+            "{\"id\":3,\"price\":null,\"tag\":\"x\",\"code\":-7}," +
+            "{\"id\":4,\"ratio\":1e3,\"tag\":\"x\"}" +
+            "]}";
+
+    @Test
+    public void testInferredPromotions() {
+        JsonColumns columns = JsonColumns.extract(JsonUtils.loads(ROWS), "data");
+        assertSame(columns, stream(ROWS, null));
+
+        Assert.assertEquals(5, columns.rowCount());
+        Assert.assertEquals(Arrays.asList("id", "price", "code", "ratio", "tag", "obj", "flag"), Arrays.asList(columns.names().toArray()));
+
+        // 整数列
+        Assert.assertArrayEquals(new long[]{1, 2, 0, 3, 4}, columns.longColumn("id").values());
+        Assert.assertTrue(columns.column("id").isNull(2));
+
+        // 整数 -> 浮点
+        JsonColumns.DoubleColumn price = columns.doubleColumn("price");
+        Assert.assertEquals(2.0, price.getDouble(0), 0.0);
+        Assert.assertEquals(2.5, price.getDouble(1), 0.0);
+        Assert.assertNull(price.get(3));
+        Assert.assertNull(price.get(4));
+
+        // 整数 -> 字符串，之后的整数也写为字符串
+        JsonColumns.StringColumn code = columns.stringColumn("code");
+        Assert.assertEquals("10", code.get(0));
+        Assert.assertEquals("A1", code.get(1));
+        Assert.assertEquals("-7", code.get(3));
+        Assert.assertNull(code.get(4));
+
+        // 浮点 -> 字符串，数值按规范格式输出
+        JsonColumns.StringColumn ratio = columns.stringColumn("ratio");
+        Assert.assertEquals("1.5", ratio.get(0));
+        Assert.assertEquals("n/a", ratio.get(1));
+        Assert.assertEquals("1000.0", ratio.get(4));
+
+        // 先出现空值再确定类型，字典编码
+        JsonColumns.StringColumn tag = columns.stringColumn("tag");
+        Assert.assertNull(tag.get(0));
+        Assert.assertEquals(-1, tag.code(1));
+        Assert.assertEquals(tag.code(3), tag.code(4));
+        Assert.assertEquals(1, tag.dictionary().length);
+
+        // 对象、数组按 json 文本保存
+        Assert.assertEquals("{\"k\":1}", columns.column("obj").get(0));
+        Assert.assertEquals("[1,2]", columns.column("obj").get(1));
+
+        // 只在中间出现的列，前后补空
+        Assert.assertEquals(Arrays.asList(null, "true", null, null, null), values(columns.column("flag")));
+    }
+
+    @Test
+    public void testSchema() {
+        Map<String, JsonColumns.Type> schema = new LinkedHashMap<>();
+        schema.put("id", JsonColumns.Type.LONG);
+        schema.put("price", JsonColumns.Type.LONG);
+        schema.put("code", JsonColumns.Type.DOUBLE);
+        schema.put("missing", JsonColumns.Type.DOUBLE);
+
+        JsonColumns columns = JsonColumns.extract(JsonUtils.loads(ROWS), schema, "data");
+        assertSame(columns, stream(ROWS, schema));
+
+        Assert.assertEquals(Arrays.asList("id", "price", "code", "missing"), Arrays.asList(columns.names().toArray()));
+        // 指定类型后不再提升：浮点截断为整数，字符串尝试解析，失败记为空
+        Assert.assertEquals(Arrays.asList(2L, 2L, null, null, null), values(columns.column("price")));
+        Assert.assertEquals(Arrays.asList(10.0, null, null, -7.0, null), values(columns.column("code")));
+        Assert.assertEquals(JsonColumns.Type.DOUBLE, columns.column("missing").type());
+        Assert.assertEquals(5, columns.column("missing").nulls().cardinality());
+    }
+
+    @Test
+    public void testNotArray() {
+        String json = "{\"data\":{\"a\":{\"id\":1}}}";
+        for (String path : new String[]{"data", "missing"}) {
+            try {
+                JsonColumns.extract(JsonUtils.loads(json), path);
+                Assert.fail();
+            } catch (RuntimeException e) {
+                Assert.assertTrue(e.getMessage(), e.getMessage().contains("不是数组"));
+            }
+            try {
+                stream(json, null, path);
+                Assert.fail();
+            } catch (RuntimeException e) {
+                Assert.assertTrue(e.getMessage(), e.getMessage().contains("不是数组"));
+            }
+        }
+    }
+
+    @Test
+    public void testDuplicateKeys() {
+        // 树节点取最后一个值，token 流取第一个值
+        String json = "{\"data\":[{\"id\":1,\"id\":2}]}";
+        Assert.assertEquals(2L, JsonColumns.extract(JsonUtils.loads(json), "data").column("id").get(0));
+        Assert.assertEquals(1L, stream(json, null).column("id").get(0));
+    }
+
+    private static JsonColumns stream(String json, Map<String, JsonColumns.Type> schema) {
+        return stream(json, schema, "data");
+    }
+
+    private static JsonColumns stream(String json, Map<String, JsonColumns.Type> schema, Object... paths) {
+        return JsonColumns.extract(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), schema, paths);
+    }
+
+    /**
+     * 树节点与 token 流两种提取方式的结果应完全一致
+     */
+    private static void assertSame(JsonColumns expected, JsonColumns actual) {
+        Assert.assertEquals(expected.rowCount(), actual.rowCount());
+        Assert.assertEquals(Arrays.asList(expected.names().toArray()), Arrays.asList(actual.names().toArray()));
+        for (String name : expected.names()) {
+            Assert.assertEquals(expected.column(name).type(), actual.column(name).type());
+            Assert.assertEquals(expected.column(name).nulls(), actual.column(name).nulls());
+            Assert.assertEquals(values(expected.column(name)), values(actual.column(name)));
+        }
+    }
+
+    private static List<Object> values(JsonColumns.Column column) {
+        Object[] values = new Object[column.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = column.get(i);
+        }
+        return Arrays.asList(values);
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+public class JsonDateParserTest {
+    private static final JsonNodeFactory factory = JsonNodeFactory.instance;
+
+    private static final String[] FORMATS = {"yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss", "yyyy-MM-dd"};
+    private static final String[][] TEXTS = {
+            // 正常值
+            {"2026-10-18 22:40:05", "2026-10-18T22:40:05", "2026-10-18"},
+            // 闰年 2 月 29 日
+            {"2024-02-29 00:00:00", "2024-02-29T00:00:00", "2024-02-29"},
+            // 超出范围的日期，快速路径放弃，由 SimpleDateFormat 宽松解析顺延
+            {"2026-02-30 12:00:00", "2026-02-30T12:00:00", "2026-02-30"},
+            {"2026-13-01 24:00:60", "2026-13-01T24:00:60", "2026-13-01"},
+            // 公元 0 年
+            {"0000-01-01 00:00:00", "0000-01-01T00:00:00", "0000-01-01"},
+            // 长度或分隔符不符
+            {"2026-10-18 22:40", "2026/10/18T22:40:05", "2026-1-8"},
+    };
+
+    @Test
+    public void testFastLayoutsMatchFormatter() {
+        for (String[] texts : TEXTS) {
+            for (int i = 0; i < FORMATS.length; i++) {
+                assertDate(FORMATS[i], texts[i]);
+                assertLocalDateTime(FORMATS[i], texts[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testLenientFallback() {
+        Date date = JsonDateParser.of("yyyy-MM-dd").date(factory.textNode("2026-02-30"));
+        Assert.assertEquals(LocalDateTime.of(2026, 3, 2, 0, 0), LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
+    }
+
+    @Test
+    public void testInvalidPattern() {
+        // 格式不合法时与解析失败一样返回 null
+        Assert.assertNull(JsonDateParser.of("yyyy-MM-dd bb").date(factory.textNode("2026-10-18 xx")));
+        JsonNode json = JsonUtils.loads("{\"d\":\"2026-10-18\",\"arr\":[\"2026-10-18\"]}");
+        Assert.assertNull(JsonUtils.date(json, "qqqq", "d"));
+        Assert.assertArrayEquals(new Date[]{null}, JsonUtils.dateArray(json, "qqqq", "arr"));
+    }
+
+    @Test
+    public void testLocalDateTimeRequiresTime() {
+        try {
+            JsonDateParser.of("yyyy-MM-dd").localDateTime(factory.textNode("2026-10-18"));
+            Assert.fail();
+        } catch (DateTimeParseException e) {
+            // 与 LocalDateTime.parse 一致
+        }
+    }
+
+    @Test
+    public void testEpoch() {
+        long millis = 1792334405123L;
+        LocalDateTime expected = LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+
+        JsonDateParser epochMillis = JsonDateParser.of(JsonUtils.EPOCH_MILLIS);
+        for (JsonNode node : new JsonNode[]{factory.numberNode(millis), factory.textNode(" " + millis + " ")}) {
+            Assert.assertEquals(new Date(millis), epochMillis.date(node));
+            Assert.assertEquals(expected, epochMillis.localDateTime(node));
+        }
+
+        JsonDateParser epochSeconds = JsonDateParser.of(JsonUtils.EPOCH_SECONDS);
+        for (JsonNode node : new JsonNode[]{factory.numberNode(millis / 1000), factory.textNode(String.valueOf(millis / 1000))}) {
+            Assert.assertEquals(new Date(millis / 1000 * 1000), epochSeconds.date(node));
+            Assert.assertEquals(expected.withNano(0), epochSeconds.localDateTime(node));
+        }
+
+        Assert.assertNull(epochMillis.date(factory.textNode("2026-10-18")));
+        try {
+            epochMillis.localDateTime(factory.textNode("2026-10-18"));
+            Assert.fail();
+        } catch (NumberFormatException e) {
+            // 文本不是整数
+        }
+    }
+
+    /**
+     * 与 SimpleDateFormat 的结果一致，解析失败时均为 null
+     */
+    private static void assertDate(String format, String text) {
+        Date expected;
+        try {
+            expected = new SimpleDateFormat(format).parse(text);
+        } catch (ParseException e) {
+            expected = null;
+        }
+        Assert.assertEquals(format + " " + text, expected, JsonDateParser.of(format).date(factory.textNode(text)));
+    }
+
+    /**
+     * 与 LocalDateTime.parse 的结果一致，解析失败时抛出相同类型的异常
+     */
+    private static void assertLocalDateTime(String format, String text) {
+        Object expected;
+        try {
+            expected = LocalDateTime.parse(text, DateTimeFormatter.ofPattern(format));
+        } catch (RuntimeException e) {
+            expected = e.getClass();
+        }
+
+        Object actual;
+        try {
+            actual = JsonDateParser.of(format).localDateTime(factory.textNode(text));
+        } catch (RuntimeException e) {
+            actual = e.getClass();
+        }
+        Assert.assertEquals(format + " " + text, expected, actual);
+    }
+}
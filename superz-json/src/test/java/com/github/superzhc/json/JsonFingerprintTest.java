@@ -0,0 +1,37 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+public class JsonFingerprintTest {
+
+    @Test
+    public void testHash64() throws IOException {
+        String json = "{\"a\":1,\"b\":[1.0,\"text\",null,true],\"c\":{\"d\":1e2}}";
+        JsonNode node = JsonUtils.loads(json);
+        long expected = JsonFingerprint.hash64(node);
+
+        // 字段顺序、数值格式不影响指纹
+        Assert.assertEquals(expected, JsonFingerprint.hash64(JsonUtils.loads("{\"c\":{\"d\":100},\"b\":[1,\"text\",null,true],\"a\":1.00}")));
+        Assert.assertEquals(expected, JsonFingerprint.hash64(JsonUtils.mapper().readValue(json, Map.class)));
+        try (JsonParser parser = JsonUtils.mapper().getFactory().createParser(json)) {
+            Assert.assertEquals(expected, JsonFingerprint.hash64(parser));
+        }
+
+        Assert.assertNotEquals(expected, JsonFingerprint.hash64(JsonUtils.loads("{\"a\":1,\"b\":[1.5,\"text\",null,true],\"c\":{\"d\":1e2}}")));
+    }
+
+    @Test
+    public void testDistinct() {
+        Assert.assertEquals(2, JsonFingerprint.distinct(Arrays.asList(
+                JsonUtils.loads("{\"id\":1,\"v\":\"a\"}"),
+                JsonUtils.loads("{\"v\":\"a\",\"id\":1}"),
+                JsonUtils.loads("{\"id\":2,\"v\":\"a\"}"))).size());
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JsonPatchUtilsTest {
+
+    @Test
+    public void testDiffAndApply() {
+        JsonNode source = JsonUtils.loads("{\"a\":1,\"b\":[1,2,3,{\"c\":\"x\"}],\"d/e\":true}");
+        JsonNode target = JsonUtils.loads("{\"a\":2,\"b\":[0,1,3,{\"c\":\"y\"}],\"f\":null}");
+
+        ArrayNode patch = JsonPatchUtils.diff(source, target);
+        JsonNode result = JsonPatchUtils.apply(source.deepCopy(), patch);
+        Assert.assertEquals(target, result);
+
+        Assert.assertEquals(0, JsonPatchUtils.diff(target, target.deepCopy()).size());
+    }
+
+    @Test
+    public void testApply() {
+        JsonNode node = JsonUtils.loads("{\"a\":[1,2],\"b\":{\"c\":1}}");
+        JsonNode patch = JsonUtils.loads("[{\"op\":\"move\",\"from\":\"/b/c\",\"path\":\"/a/-\"},{\"op\":\"copy\",\"from\":\"/a\",\"path\":\"/b/d\"},{\"op\":\"test\",\"path\":\"/a/2\",\"value\":1}]");
+        JsonPatchUtils.apply(node, patch);
+        Assert.assertEquals(JsonUtils.loads("{\"a\":[1,2,1],\"b\":{\"d\":[1,2,1]}}"), node);
+    }
+
+    @Test
+    public void testNumericEquality() {
+        JsonNode node = JsonUtils.loads("{\"a\":1,\"b\":[2.50,{\"c\":100}]}");
+        JsonPatchUtils.apply(node, JsonUtils.loads("[{\"op\":\"test\",\"path\":\"/a\",\"value\":1.0},{\"op\":\"test\",\"path\":\"/b\",\"value\":[2.5,{\"c\":1e2}]}]"));
+
+        try {
+            JsonPatchUtils.apply(node, JsonUtils.loads("[{\"op\":\"test\",\"path\":\"/a\",\"value\":\"1\"}]"));
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("JSON Patch test"));
+        }
+    }
+
+    @Test
+    public void testMissingValue() {
+        for (String op : new String[]{"add", "replace", "test"}) {
+            try {
+                JsonPatchUtils.apply(JsonUtils.loads("{\"a\":1}"), JsonUtils.loads("[{\"op\":\"" + op + "\",\"path\":\"/a\"}]"));
+                Assert.fail();
+            } catch (RuntimeException e) {
+                Assert.assertTrue(e.getMessage().startsWith("JSON Patch " + op));
+            }
+        }
+    }
+}
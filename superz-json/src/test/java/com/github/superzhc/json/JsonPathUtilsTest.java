@@ -0,0 +1,51 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class JsonPathUtilsTest {
+
+    private static final JsonNode JSON = JsonUtils.loads("{\"store\":{\"books\":[{\"title\":\"a\",\"price\":8},{\"title\":\"b\",\"price\":12}]}}");
+
+    @Test
+    public void testRead() {
+        Assert.assertEquals(JsonUtils.loads("[\"a\",\"b\"]"), JsonPathUtils.read(JSON, "$.store.books[*].title"));
+        Assert.assertEquals(JsonUtils.loads("[\"b\"]"), JsonPathUtils.read(JSON, "$.store.books[?(@.price > 10)].title"));
+        Assert.assertEquals("a", JsonPathUtils.read(JSON, "$.store.books[0].title").asText());
+        Assert.assertEquals(Integer.valueOf(12), JsonPathUtils.read(JSON, "$.store.books[1].price", Integer.class));
+
+        Map<String, String> rules = new LinkedHashMap<>();
+        rules.put("first", "$.store.books[0].title");
+        rules.put("count", "$.store.books.length()");
+        Map<String, JsonNode> result = JsonPathUtils.read(JSON, rules);
+        Assert.assertEquals("a", result.get("first").asText());
+        // 函数的结果转换成节点
+        Assert.assertEquals(2, result.get("count").asInt());
+        Assert.assertEquals(2.0, JsonPathUtils.read(JSON, "$.store.books.length()").asDouble(), 0.0);
+
+        Assert.assertSame(JsonPathUtils.compile("$.store"), JsonPathUtils.compile("$.store"));
+    }
+
+    @Test
+    public void testNoResult() {
+        // 定值路径不存在时返回 null，不抛出异常
+        Assert.assertNull(JsonPathUtils.read(JSON, "$.store.missing"));
+        Assert.assertNull(JsonPathUtils.read(JSON, "$.store.books[5].title"));
+        Assert.assertNull(JsonPathUtils.read(JSON, "$.store.missing", String.class));
+
+        // 不定路径没有匹配时返回空数组
+        JsonNode empty = JsonPathUtils.read(JSON, "$.store.books[?(@.price > 100)].title");
+        Assert.assertTrue(empty.isArray());
+        Assert.assertEquals(0, empty.size());
+        Assert.assertEquals(0, JsonPathUtils.read(JSON, "$..missing").size());
+
+        Map<String, JsonNode> result = JsonPathUtils.read(JSON, "$.store.missing", "$.store.books[0].title");
+        Assert.assertTrue(result.containsKey("$.store.missing"));
+        Assert.assertNull(result.get("$.store.missing"));
+        Assert.assertEquals("a", result.get("$.store.books[0].title").asText());
+    }
+}
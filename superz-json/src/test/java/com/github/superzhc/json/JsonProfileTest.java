@@ -0,0 +1,52 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class JsonProfileTest {
+
+    @Test
+    public void testStrictRejectsLenient() {
+        String json = "{name:'a',\"id\":1}";
+        JsonNode node = JsonProfile.LENIENT.readTree(json);
+        Assert.assertEquals("a", node.get("name").asText());
+        Assert.assertEquals(1, node.get("id").asInt());
+
+        // 严格解析不允许未带引号的字段名和单引号
+        for (String strict : new String[]{json, "{\"name\":'a'}"}) {
+            try {
+                JsonProfile.STRICT.readTree(strict);
+                Assert.fail();
+            } catch (RuntimeException e) {
+                // 解析失败
+            }
+            try {
+                JsonProfile.STRICT.readTree(strict.getBytes(StandardCharsets.UTF_8));
+                Assert.fail();
+            } catch (RuntimeException e) {
+                // 解析失败
+            }
+        }
+        Assert.assertEquals(node, JsonProfile.STRICT.readTree("{\"name\":\"a\",\"id\":1}"));
+    }
+
+    @Test
+    public void testCanonical() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("b", 1);
+        map.put("a", new BigDecimal("1E+3"));
+        Assert.assertEquals("{\"b\":1,\"a\":1E+3}", JsonProfile.STRICT.asString(map));
+        Assert.assertEquals("{\"a\":1000,\"b\":1}", JsonProfile.CANONICAL.asString(map));
+
+        // 树节点同样按 key 排序输出
+        JsonNode node = JsonProfile.STRICT.readTree("{\"b\":{\"d\":1,\"c\":2},\"a\":[3]}");
+        Assert.assertEquals("{\"a\":[3],\"b\":{\"c\":2,\"d\":1}}", JsonProfile.CANONICAL.asString(node));
+        Assert.assertArrayEquals(JsonProfile.CANONICAL.asString(node).getBytes(StandardCharsets.UTF_8), JsonProfile.CANONICAL.asBytes(node));
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.superzhc.json;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+public class JsonSchemaUtilsTest {
+
+    private static final String SCHEMA = "{\"type\":\"object\",\"required\":[\"id\",\"name\"],"
+            + "\"properties\":{\"id\":{\"type\":\"integer\",\"minimum\":1},\"name\":{\"type\":\"string\"}}}";
+
+    @Test
+    public void testValidate() {
+        JsonSchemaUtils.Result valid = JsonSchemaUtils.validate(SCHEMA, JsonUtils.loads("{\"id\":1,\"name\":\"a\"}"));
+        Assert.assertTrue(valid.isValid());
+        Assert.assertEquals(-1, valid.firstInvalidIndex());
+
+        // 缺少字段、超出范围各产生一条错误，未声明的字段不报错
+        JsonSchemaUtils.Result invalid = JsonSchemaUtils.validate(SCHEMA, JsonUtils.loads("{\"id\":0,\"extra\":true}"));
+        Assert.assertFalse(invalid.isValid());
+        Assert.assertEquals(0, invalid.firstInvalidIndex());
+        Assert.assertEquals(invalid.toString(), 2, invalid.errors().size());
+        Assert.assertTrue(invalid.errors().toString(), invalid.errors().toString().contains("name"));
+
+        invalid = JsonSchemaUtils.validate(SCHEMA, JsonUtils.loads("{\"id\":\"x\",\"name\":1}"));
+        Assert.assertEquals(invalid.toString(), 2, invalid.errors().size());
+
+        // failFast 只返回第一个错误
+        invalid = JsonSchemaUtils.validate(SCHEMA, JsonUtils.loads("{\"id\":\"x\",\"name\":1}"), true);
+        Assert.assertEquals(invalid.toString(), 1, invalid.errors().size());
+
+        // 编译结果按内容缓存
+        Assert.assertSame(JsonSchemaUtils.compile(SCHEMA), JsonSchemaUtils.compile(SCHEMA));
+    }
+
+    @Test
+    public void testValidateEach() {
+        String json = "{\"data\":[{\"id\":1,\"name\":\"a\"},{\"id\":0,\"name\":\"b\"},null,{\"id\":3,\"name\":\"c\"}]}";
+        JsonSchemaUtils.Result result = JsonSchemaUtils.validateEach(SCHEMA, in(json), false, "data");
+        Assert.assertEquals(4, result.count());
+        Assert.assertEquals(1, result.firstInvalidIndex());
+        Assert.assertEquals(result.toString(), 2, result.errors().size());
+        Assert.assertTrue(result.errors().get(0).startsWith("[1]"));
+        Assert.assertTrue(result.errors().get(1).startsWith("[2]"));
+
+        // failFast 遇到第一个不合法的元素即停止
+        result = JsonSchemaUtils.validateEach(SCHEMA, in(json), true, "data");
+        Assert.assertEquals(2, result.count());
+        Assert.assertEquals(1, result.firstInvalidIndex());
+        Assert.assertEquals(1, result.errors().size());
+    }
+
+    private static ByteArrayInputStream in(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.superzhc.json;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+public class JsonStreamBuilderTest {
+
+    @Test
+    public void testBuild() throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonStreamBuilder builder = new JsonStreamBuilder(out)) {
+            builder.put("id", 1)
+                    .put("name", "x", "info", "detail")
+                    .put("level", 2, "info")
+                    .putArray("tags", "t1", "info")
+                    .addAll("tags", Arrays.asList("t2", null), "info")
+                    .put("extra", null, "other");
+        }
+        Assert.assertEquals("{\"id\":1,\"info\":{\"detail\":{\"name\":\"x\"},\"level\":2,\"tags\":[\"t1\",\"t2\",null]},\"other\":{\"extra\":null}}", out.toString());
+    }
+
+    @Test
+    public void testReturnToEarlierPath() throws IOException {
+        // 回到已关闭的子对象
+        StringWriter out = new StringWriter();
+        JsonStreamBuilder builder = new JsonStreamBuilder(out);
+        builder.put("a", 1, "x").put("b", 2, "y");
+        try {
+            builder.put("c", 3, "x");
+            Assert.fail();
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("x"));
+        }
+
+        // 回到已关闭的嵌套子对象，父对象未关闭
+        builder = new JsonStreamBuilder(new StringWriter());
+        builder.put("a", 1, "p", "q").put("b", 2, "p");
+        try {
+            builder.put("c", 3, "p", "q");
+            Assert.fail();
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("q"));
+        }
+
+        // 回到已关闭的数组
+        builder = new JsonStreamBuilder(new StringWriter());
+        builder.putArray("arr", 1).put("k", "v");
+        try {
+            builder.putArray("arr", 2);
+            Assert.fail();
+        } catch (IOException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("arr"));
+        }
+    }
+}
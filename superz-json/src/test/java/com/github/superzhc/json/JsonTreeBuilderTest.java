@@ -0,0 +1,78 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class JsonTreeBuilderTest {
+
+    public static class Item {
+        public long id = 3L;
+        public float ratio = 1.1f;
+        public BigDecimal price = new BigDecimal("1E+3");
+    }
+
+    @Test
+    public void testBuild() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("a", 1);
+        values.put("b", null);
+        ObjectNode node = JsonTreeBuilder.create()
+                .put("name", "x", "info")
+                .putAll(values, "info", "extra")
+                .add("tags", "t1")
+                .addAll("tags", Arrays.asList("t2", null))
+                .put("item", new Item())
+                .build();
+
+        Assert.assertEquals(JsonUtils.loads("{\"info\":{\"name\":\"x\",\"extra\":{\"a\":1,\"b\":null}},\"tags\":[\"t1\",\"t2\",null],"
+                + "\"item\":{\"id\":3,\"ratio\":1.1,\"price\":1000.0}}"), node);
+
+        // 在已有节点上继续构建，值为 null 的 key 视为不存在
+        node.putNull("empty");
+        JsonTreeBuilder.of(node).add("tags", "t3").add("empty", 1);
+        Assert.assertEquals(4, node.get("tags").size());
+        Assert.assertEquals("[1]", node.get("empty").toString());
+    }
+
+    @Test
+    public void testArrayOnNonArray() {
+        ObjectNode node = JsonTreeBuilder.create().put("tags", "x").build();
+        try {
+            JsonTreeBuilder.of(node).add("tags", "t1");
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("不是数组"));
+        }
+        // 原有的值不被覆盖
+        Assert.assertEquals("x", node.get("tags").asText());
+    }
+
+    @Test
+    public void testToNode() {
+        // 数值节点与序列化成字符串再解析的结果一致
+        Object[] values = {1, 2L, 1L << 40, 1.5, 1.1f, new BigDecimal("1E+3"), BigInteger.TEN, (short) 7, "s", true};
+        for (Object value : values) {
+            JsonNode expected = JsonUtils.loads(JsonUtils.asString(value));
+            JsonNode actual = JsonUtils.toNode(value);
+            Assert.assertEquals(String.valueOf(value), expected, actual);
+            Assert.assertEquals(expected.getClass(), actual.getClass());
+            Assert.assertEquals(JsonUtils.asString(expected), JsonUtils.asString(actual));
+        }
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("f", 1.1f);
+        map.put("d", new BigDecimal("2.50"));
+        map.put("l", 5L);
+        map.put("list", Arrays.asList(1.25f, null));
+        Assert.assertEquals(JsonUtils.loads(JsonUtils.asString(map)), JsonUtils.toNode(map));
+        Assert.assertEquals("{\"f\":1.1,\"d\":2.5,\"l\":5,\"list\":[1.25,null]}", JsonUtils.asString(JsonUtils.toNode(map)));
+    }
+}
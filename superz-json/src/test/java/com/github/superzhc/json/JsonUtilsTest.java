@@ -4,6 +4,19 @@ import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
 public class JsonUtilsTest {
 
     @Test
@@ -12,4 +25,175 @@ public class JsonUtilsTest {
         JsonNode json = JsonUtils.loads(str);
         Assert.assertEquals((Object) 0,(Object) JsonUtils.integer(json,"cmdID"));
     }
+
+    @Test
+    public void testStream() {
+        String str = "{\"skip\":[1,{\"a\":0}],\"data\":{\"list\":[{\"a\":1,\"b\":\"x\"},{\"a\":2}]}}";
+        InputStream in = new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8));
+        List<Map<String, Object>> lst = JsonUtils.stream(in, "data", "list").collect(Collectors.toList());
+        Assert.assertEquals(2, lst.size());
+        Assert.assertEquals("x", lst.get(0).get("b"));
+        Assert.assertEquals(2, lst.get(1).get("a"));
+    }
+
+    @Test
+    public void testNewObjectArrayUnionKeys() {
+        JsonNode json = JsonUtils.loads("{\"data\":[{\"a\":1},{\"a\":2,\"b\":\"x\"}]}");
+
+        Map<String, Object>[] rows = JsonUtils.newObjectArrayUnionKeys(json, "data");
+        Assert.assertTrue(rows[0].containsKey("b"));
+        Assert.assertNull(rows[0].get("b"));
+        Assert.assertEquals("x", rows[1].get("b"));
+
+        Map<String, Object[]> columns = JsonUtils.newObjectColumns(json, "data");
+        Assert.assertArrayEquals(new Object[]{1, 2}, columns.get("a"));
+        Assert.assertArrayEquals(new Object[]{null, "x"}, columns.get("b"));
+    }
+
+    @Test
+    public void testPrimitiveArray() {
+        String str = "{\"data\":[1,null,\"3\",\"NaN\"]}";
+        long[] longs = JsonUtils.longArray(new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8)), -1L, "data");
+        Assert.assertEquals(4, longs.length);
+        Assert.assertEquals(-1L, longs[1]);
+        Assert.assertEquals(3L, longs[2]);
+
+        double[] doubles = JsonUtils.doubleArray(new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8)), -1.0, 0.0, "data");
+        Assert.assertArrayEquals(new double[]{1.0, -1.0, 3.0, 0.0}, doubles, 0.0);
+
+        // 对象、数组元素同样替换为 nullValue，nanValue 为 Double.NaN 时保留 NaN
+        String mixed = "{\"data\":[{\"a\":1},[2],\"x\",\"NaN\",4]}";
+        Assert.assertArrayEquals(new int[]{-1, -1, -1, 4}, JsonUtils.intArray(new ByteArrayInputStream("{\"data\":[{\"a\":1},[2],\"x\",4]}".getBytes(StandardCharsets.UTF_8)), -1, "data"));
+        double[] nans = JsonUtils.doubleArray(new ByteArrayInputStream(mixed.getBytes(StandardCharsets.UTF_8)), -1.0, Double.NaN, "data");
+        Assert.assertArrayEquals(new double[]{-1.0, -1.0, -1.0}, Arrays.copyOf(nans, 3), 0.0);
+        Assert.assertTrue(Double.isNaN(nans[3]));
+        Assert.assertEquals(4.0, nans[4], 0.0);
+    }
+
+    @Test
+    public void testParallel() {
+        StringBuilder sb = new StringBuilder("{\"data\":[{},");
+        for (int i = 0; i < 5000; i++) {
+            sb.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(",\"tags\":[\"t").append(i % 3).append("\"]}");
+        }
+        sb.append("]}");
+        JsonNode json = JsonUtils.loads(sb.toString());
+        List<Object> list = JsonUtils.list(json, "data");
+        Assert.assertEquals(5001, list.size());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assert.assertEquals(list, JsonUtils.listParallel(json, new Object[]{"data"}, pool, 100));
+            Assert.assertArrayEquals(JsonUtils.newObjectArray(json, "data"), JsonUtils.newObjectArrayParallel(json, new Object[]{"data"}, null, pool, 100));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testNewObjectArrayRows() {
+        JsonNode json = JsonUtils.loads("[{\"a\":1,\"b\":\"x\"},{\"b\":\"y\",\"c\":true}]");
+        Map<String, Object>[] rows = JsonUtils.newObjectArray(json);
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("a", null);
+        expected.put("b", "y");
+        Assert.assertEquals(expected, rows[1]);
+        Assert.assertEquals(expected.hashCode(), rows[1].hashCode());
+        Assert.assertEquals("{a=null, b=y}", rows[1].toString());
+
+        rows[1].remove("a");
+        rows[1].put("c", true);
+        rows[1].put("a", 2);
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(rows[1].keySet()));
+        Assert.assertEquals(3, rows[1].size());
+        Assert.assertEquals(1, rows[0].get("a"));
+
+        rows[1].entrySet().removeIf(e -> !"b".equals(e.getKey()));
+        Assert.assertEquals(Collections.singletonMap("b", "y"), rows[1]);
+    }
+
+    @Test
+    public void testLiteralKeys() {
+        // 从数据中取得的 key 含 / 时按字段名原样获取，调用方传入的 key 仍按路径解析
+        JsonNode json = JsonUtils.loads("{\"data\":[{\"a/b\":1,\"a\":{\"b\":0}},{\"a/b\":2,\"a\":{\"b\":3}}]}");
+        Map<String, Object>[] rows = JsonUtils.newObjectArray(json, "data");
+        Assert.assertEquals(1, rows[0].get("a/b"));
+        Assert.assertEquals(2, rows[1].get("a/b"));
+        Assert.assertEquals(2, JsonUtils.newObjectArrayUnionKeys(json, "data")[1].get("a/b"));
+        Assert.assertArrayEquals(new Object[]{1, 2}, JsonUtils.newObjectColumns(json, "data").get("a/b"));
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Map<String, Object>[] parallel = JsonUtils.newObjectArrayParallel(json, new Object[]{"data"}, null, pool, 1);
+            Assert.assertEquals(2, parallel[1].get("a/b"));
+            Assert.assertEquals(3, JsonUtils.newObjectArrayParallel(json, new Object[]{"data"}, Collections.singletonList("a/b"), pool, 1)[1].get("a/b"));
+        } finally {
+            pool.shutdown();
+        }
+
+        Assert.assertEquals(3, JsonUtils.newObjectArray(json, new Object[]{"data"}, Collections.singletonList("a/b"))[1].get("a/b"));
+        Assert.assertArrayEquals(new Object[]{0, 3}, JsonUtils.newObjectColumns(json, new Object[]{"data"}, Collections.singletonList("a/b")).get("a/b"));
+    }
+
+    public static class Item {
+        public long id;
+        public String name;
+        public List<String> tags;
+    }
+
+    @Test
+    public void testBean() {
+        JsonNode json = JsonUtils.loads("{\"data\":{\"item\":{\"id\":7,\"name\":\"a\",\"tags\":[\"x\",\"y\"],\"extra\":1}}}");
+
+        Item item = JsonUtils.bean(json, Item.class, "data", "item");
+        Assert.assertEquals(7L, item.id);
+        Assert.assertEquals("a", item.name);
+        Assert.assertEquals(Arrays.asList("x", "y"), item.tags);
+
+        Assert.assertNull(JsonUtils.bean(json, Item.class, "data", "missing"));
+        Assert.assertTrue(JsonUtils.reader(Item.class) == JsonUtils.reader(Item.class));
+    }
+
+    @Test
+    public void testBeanList() {
+        JsonNode json = JsonUtils.loads("{\"data\":[{\"id\":1,\"name\":\"a\"},null,{\"id\":2,\"tags\":[\"t\"]}]}");
+
+        List<Item> items = JsonUtils.beanList(json, Item.class, "data");
+        Assert.assertEquals(3, items.size());
+        Assert.assertEquals(1L, items.get(0).id);
+        Assert.assertEquals("a", items.get(0).name);
+        Assert.assertNull(items.get(1));
+        Assert.assertEquals(2L, items.get(2).id);
+        Assert.assertEquals(Collections.singletonList("t"), items.get(2).tags);
+    }
+
+    @Test
+    public void testIterator() throws Exception {
+        String str = "{\"data\":[{\"id\":1},null,{\"id\":2}],\"meta\":{\"id\":3}}";
+        List<Map<String, Object>> items = new ArrayList<>();
+        try (JsonArrayIterator<Map<String, Object>> iterator = JsonUtils.iterator(new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8)), "data")) {
+            iterator.forEachRemaining(items::add);
+        }
+        Assert.assertEquals(3, items.size());
+        Assert.assertEquals(1, items.get(0).get("id"));
+        Assert.assertNull(items.get(1));
+
+        // 路径不是数组或不存在时，抛出异常前关闭输入流
+        for (String path : new String[]{"meta", "missing"}) {
+            AtomicBoolean closed = new AtomicBoolean(false);
+            InputStream in = new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8)) {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            };
+            try {
+                JsonUtils.iterator(in, JsonNode.class, path);
+                Assert.fail();
+            } catch (RuntimeException e) {
+                Assert.assertTrue(closed.get());
+            }
+        }
+    }
 }
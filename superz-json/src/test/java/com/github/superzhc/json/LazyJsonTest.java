@@ -0,0 +1,42 @@
+package com.github.superzhc.json;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class LazyJsonTest {
+
+    @Test
+    public void testAccess() {
+        LazyJson json = LazyJson.of("{\"code\":0,\"data\":{\"items\":[{\"id\":1,\"name\":\"a\\\"b\"},{\"id\":2,\"price\":12.5}],\"empty\":null},\"ok\":true}");
+
+        Assert.assertEquals(Long.valueOf(0L), json.aLong("code"));
+        Assert.assertEquals("a\"b", json.string("data", "items", 0, "name"));
+        Assert.assertEquals("a\"b", json.string("data/items/0/name"));
+        Assert.assertEquals(Double.valueOf(12.5), json.aDouble("data", "items", 1, "price"));
+        Assert.assertEquals(Boolean.TRUE, json.bool("ok"));
+        Assert.assertEquals(2, json.object("data", "items").size());
+        Assert.assertEquals(Arrays.asList("code", "data", "ok"), json.keys());
+
+        Assert.assertNull(json.string("data", "empty"));
+        Assert.assertNull(json.object("data", "missing"));
+        Assert.assertNull(json.object("data", "items", 5));
+
+        Assert.assertEquals("{\"id\":1,\"name\":\"a\\\"b\"}", json.text("data", "items", 0));
+        Assert.assertEquals(JsonUtils.loads("[{\"id\":1,\"name\":\"a\\\"b\"},{\"id\":2,\"price\":12.5}]"), json.node("data", "items"));
+    }
+
+    @Test
+    public void testTrailingContent() {
+        for (String json : new String[]{"{\"a\":1} {\"b\":2}", "[1]]", "{}}", "[] []"}) {
+            try {
+                LazyJson.of(json).size();
+                Assert.fail(json);
+            } catch (RuntimeException e) {
+                Assert.assertTrue(e.getMessage().startsWith("json 格式错误"));
+            }
+        }
+        Assert.assertEquals(1, LazyJson.of(" [1] \n").size());
+    }
+}
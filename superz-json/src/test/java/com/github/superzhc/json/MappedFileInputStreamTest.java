@@ -0,0 +1,102 @@
+package com.github.superzhc.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+public class MappedFileInputStreamTest {
+
+    @Test
+    public void testChunkBoundaries() throws IOException {
+        byte[] data = new byte[50];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (200 + i);
+        }
+        File file = temp(data);
+        // 每块 7 字节，读取、跳过均会跨块
+        try (InputStream in = new MappedFileInputStream(file, 7)) {
+            Assert.assertEquals(50, in.available());
+            Assert.assertEquals(200, in.read());
+
+            // 单次 read 不跨块，循环读满
+            byte[] b = new byte[10];
+            Assert.assertEquals(6, in.read(b, 0, 10));
+            Assert.assertEquals(4, in.read(b, 6, 4));
+            for (int i = 0; i < 10; i++) {
+                Assert.assertEquals(data[1 + i], b[i]);
+            }
+            Assert.assertEquals(39, in.available());
+
+            // 块内跳过
+            Assert.assertEquals(2, in.skip(2));
+            Assert.assertEquals(data[13] & 0xFF, in.read());
+            // 跳出当前块
+            Assert.assertEquals(9, in.skip(9));
+            Assert.assertEquals(27, in.available());
+            Assert.assertEquals(data[23] & 0xFF, in.read());
+            Assert.assertEquals(0, in.skip(0));
+            Assert.assertEquals(0, in.read(b, 0, 0));
+
+            byte[] rest = readFully(in, 26);
+            for (int i = 0; i < rest.length; i++) {
+                Assert.assertEquals(data[24 + i], rest[i]);
+            }
+            Assert.assertEquals(0, in.available());
+            Assert.assertEquals(-1, in.read());
+            Assert.assertEquals(-1, in.read(b, 0, 10));
+        }
+
+        // 跳过超出文件末尾时只跳到末尾
+        try (InputStream in = new MappedFileInputStream(file, 7)) {
+            in.read();
+            Assert.assertEquals(49, in.skip(100));
+            Assert.assertEquals(0, in.available());
+            Assert.assertEquals(-1, in.read());
+        }
+        file.delete();
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        File file = temp(new byte[0]);
+        try (InputStream in = new MappedFileInputStream(file, 7)) {
+            Assert.assertEquals(0, in.available());
+            Assert.assertEquals(0, in.skip(10));
+            Assert.assertEquals(-1, in.read());
+            Assert.assertEquals(-1, in.read(new byte[4], 0, 4));
+        }
+        file.delete();
+    }
+
+    @Test
+    public void testParser() throws IOException {
+        File file = temp("{\"data\":[1,2,3],\"name\":\"mapped\"}".getBytes("UTF-8"));
+        try (JsonParser parser = JsonUtils.mappedParser(file)) {
+            Assert.assertEquals(JsonUtils.loads("{\"data\":[1,2,3],\"name\":\"mapped\"}"), JsonUtils.mapper().readTree(parser));
+        }
+        file.delete();
+    }
+
+    private static File temp(byte[] data) throws IOException {
+        File file = File.createTempFile("mapped-", ".json");
+        file.deleteOnExit();
+        Files.write(file.toPath(), data);
+        return file;
+    }
+
+    private static byte[] readFully(InputStream in, int n) throws IOException {
+        byte[] b = new byte[n];
+        int off = 0;
+        while (off < n) {
+            int read = in.read(b, off, n - off);
+            Assert.assertTrue(read > 0);
+            off += read;
+        }
+        return b;
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.superzhc.json;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class NdJsonUtilsTest {
+
+    @Test
+    public void testReadParallel() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", i);
+            row.put("name", "n" + i);
+            rows.add(row);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NdJsonUtils.write(out, rows);
+
+        List<Map> result = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            NdJsonUtils.readParallel(new ByteArrayInputStream(out.toByteArray()), Map.class, pool, true, 100, result::add);
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertEquals(rows, result);
+    }
+
+    @Test
+    public void testBlankLines() {
+        String str = "{\"id\":1}\r\n\r\n   \n{\"id\":2}\n\t\n";
+        List<Map> result = new ArrayList<>();
+        NdJsonUtils.read(new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8)), Map.class, result::add);
+        Assert.assertEquals(2, result.size());
+        Assert.assertEquals(2, result.get(1).get("id"));
+
+        List<Map> parallel = new ArrayList<>();
+        NdJsonUtils.readParallel(new ByteArrayInputStream(str.getBytes(StandardCharsets.UTF_8)), Map.class, ForkJoinPool.commonPool(), true, 2, parallel::add);
+        Assert.assertEquals(result, parallel);
+    }
+}